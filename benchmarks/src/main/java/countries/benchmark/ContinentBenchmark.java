@@ -0,0 +1,66 @@
+package countries.benchmark;
+
+import countries.dictionary.CountryDictionary;
+import countries.dictionary.Paths;
+import countries.model.GameState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContinentBenchmark {
+    @Param({"AUSTRALIA", "EUROPE", "ALL_COUNTRIES"})
+    private Paths region;
+
+    private CountryDictionary dictionary;
+    private GameState gameState;
+
+    @Setup
+    public void setup() {
+        dictionary = CountryDictionary.open();
+        gameState = new GameState();
+    }
+
+    @Benchmark
+    public int loadAndDeleteContinent() {
+        gameState.load(dictionary.members(region));
+        int loaded = gameState.getLoadedCount();
+        gameState.remove(dictionary.members(region));
+        return loaded;
+    }
+
+    @Benchmark
+    public int loadAndDeleteAllExceptRegion() {
+        gameState.load(dictionary.regionMasks(), Paths.allMask(), region.mask());
+        int loaded = gameState.getLoadedCount();
+        gameState.remove(dictionary.regionMasks(), Paths.allMask(), 0);
+        return loaded;
+    }
+
+    @Benchmark
+    public GameState restart(GuessedGame game) {
+        game.gameState.restart();
+        return game.gameState;
+    }
+
+    @State(Scope.Thread)
+    public static class GuessedGame {
+        private final GameState gameState = new GameState();
+
+        @Setup(Level.Trial)
+        public void load(ContinentBenchmark benchmark) {
+            gameState.load(benchmark.dictionary.members(benchmark.region));
+        }
+
+        @Setup(Level.Invocation)
+        public void guessAll(ContinentBenchmark benchmark) {
+            for (int id : benchmark.dictionary.members(benchmark.region))
+                gameState.guess(id);
+        }
+    }
+}
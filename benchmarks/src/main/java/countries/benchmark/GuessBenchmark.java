@@ -0,0 +1,68 @@
+package countries.benchmark;
+
+import countries.dictionary.CountryDictionary;
+import countries.dictionary.FuzzyMatcher;
+import countries.dictionary.Language;
+import countries.dictionary.Paths;
+import countries.model.GameState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GuessBenchmark {
+    @Param({"AUSTRALIA", "EUROPE", "ALL_COUNTRIES"})
+    private Paths region;
+
+    @Param({"POLISH", "ENGLISH"})
+    private Language language;
+
+    private CountryDictionary dictionary;
+    private GameState gameState;
+    private FuzzyMatcher fuzzyMatcher;
+    private String[] hits;
+    private String[] typos;
+    private int next;
+
+    @Setup
+    public void setup() {
+        dictionary = CountryDictionary.open();
+        gameState = new GameState();
+        gameState.load(dictionary.members(region));
+        fuzzyMatcher = new FuzzyMatcher(dictionary.fuzzyIndex(language), 2, gameState::isLoaded);
+        int[] members = dictionary.members(region);
+        hits = new String[members.length];
+        typos = new String[members.length];
+        for (int i = 0; i < members.length; i++) {
+            hits[i] = dictionary.name(language, members[i]);
+            typos[i] = hits[i].toLowerCase().substring(0, hits[i].length() - 1) + "x";
+        }
+    }
+
+    @Benchmark
+    public boolean exactLookup() {
+        String guess = hits[next++ % hits.length];
+        return gameState.isLoaded(dictionary.indexOf(language, guess));
+    }
+
+    @Benchmark
+    public boolean anyLanguageLookup() {
+        String guess = hits[next++ % hits.length];
+        return gameState.isLoaded(dictionary.indexOfAny(guess));
+    }
+
+    @Benchmark
+    public int fuzzyLookup() {
+        return fuzzyMatcher.match(typos[next++ % typos.length]);
+    }
+
+    @Benchmark
+    public int miss() {
+        return dictionary.indexOf(language, "ATLANTYDA");
+    }
+}
@@ -0,0 +1,51 @@
+package countries.benchmark;
+
+import countries.model.Score;
+import countries.model.ScoreCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreBenchmark {
+    private static final int BATCH_SIZE = 1 << 16;
+
+    @Param({"10", "100", "194", "10000"})
+    private int guessed;
+
+    private long[] times;
+    private int[] guessedCounts;
+    private double[] scores;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        times = new long[BATCH_SIZE];
+        guessedCounts = new int[BATCH_SIZE];
+        scores = new double[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            times[i] = 60_000 + random.nextInt(3_600_000);
+            guessedCounts[i] = random.nextInt(guessed + 1);
+        }
+    }
+
+    @Benchmark
+    public double calculateScore() {
+        Score score = new Score(600_000);
+        score.calculateScore(guessed);
+        return score.getScore();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public double[] calculateAll() {
+        ScoreCalculator.calculateAll(times, guessedCounts, scores);
+        return scores;
+    }
+}
@@ -0,0 +1,79 @@
+package countries.benchmark;
+
+import countries.io.ScoreJournal;
+import countries.model.Score;
+import countries.model.Scoreboard;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreboardBenchmark {
+    @Param({"10", "1000"})
+    private int capacity;
+
+    private Scoreboard scoreboard;
+    private Score[] scores;
+    private Score[] rejected;
+    private int next;
+    private double best;
+    private Path directory;
+    private ScoreJournal journal;
+
+    @Setup
+    public void setup() throws IOException {
+        Random random = new Random(42);
+        scores = new Score[4096];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = new Score(random.nextInt(600_000), "player" + i, random.nextDouble() * 10_000);
+        }
+        rejected = new Score[scores.length];
+        for (int i = 0; i < rejected.length; i++)
+            rejected[i] = new Score(scores[i].getTime(), scores[i].getName(), scores[i].getScore() + 10_000);
+        scoreboard = new Scoreboard(capacity);
+        for (Score score : scores)
+            scoreboard.addScore(score);
+        best = scoreboard.getScoreboardList().get(0).getScore();
+        directory = Files.createTempDirectory("scoreboard-benchmark");
+        journal = ScoreJournal.open(directory.resolve("score.journal"), directory.resolve("score.snapshot"));
+        journal.restore(new Scoreboard(capacity));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        journal.close();
+        try (var files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator)
+                Files.delete(file);
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public boolean addScore() {
+        best = Math.nextDown(best);
+        return scoreboard.addScore(new Score(1000, "player", best));
+    }
+
+    @Benchmark
+    public boolean addRejectedScore() {
+        return scoreboard.addScore(rejected[next++ & (rejected.length - 1)]);
+    }
+
+    @Benchmark
+    public Scoreboard saveAndLoad() throws IOException {
+        journal.compact(scoreboard);
+        Scoreboard restored = new Scoreboard(capacity);
+        journal.restore(restored);
+        return restored;
+    }
+}
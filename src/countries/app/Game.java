@@ -1,11 +1,56 @@
 package countries.app;
 
+import countries.exeption.DataImportException;
+import countries.exeption.NoSuchOptionException;
+import countries.sim.BotStrategy;
+import countries.sim.RaceStress;
+import countries.sim.Simulation;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
 public class Game {
     private static final String APP_NAME = "CountriesGuesser v2.0";
+    private static final String SERVER_MODE = "--server";
+    private static final String CLIENT_MODE = "--client";
+    private static final String SIMULATION_MODE = "--simulate";
+    private static final String RACE_STRESS_MODE = "--race-stress";
 
     public static void main(String[] args) {
+        GameResources resources = args.length == 0 ? GameResources.start() : null;
         System.out.println(APP_NAME);
-        GameControl gameControl = new GameControl();
-        gameControl.controlLoop();
+        try {
+            if (args.length > 0 && args[0].equals(SERVER_MODE)) {
+                new GameServer(bindAddress(args), port(args)).start();
+            } else if (args.length > 0 && args[0].equals(CLIENT_MODE)) {
+                new GameClient("localhost", port(args)).connect();
+            } else if (args.length > 0 && args[0].equals(SIMULATION_MODE)) {
+                new Simulation(intArg(args, 1, 1000), intArg(args, 2, 1),
+                        args.length > 3 ? BotStrategy.createFromString(args[3]) : BotStrategy.PERFECT,
+                        args.length > 4 ? Long.parseLong(args[4]) : 42).run();
+            } else if (args.length > 0 && args[0].equals(RACE_STRESS_MODE)) {
+                new RaceStress(intArg(args, 1, 32), intArg(args, 2, 100_000), intArg(args, 3, 50),
+                        args.length > 4 ? Long.parseLong(args[4]) : 42).run();
+            } else {
+                GameControl gameControl = resources != null ? new GameControl(resources) : new GameControl();
+                gameControl.controlLoop();
+            }
+        } catch (DataImportException | NoSuchOptionException e) {
+            System.err.println(e.getMessage());
+        } catch (UnknownHostException e) {
+            System.err.println("Unknown bind address " + e.getMessage());
+        }
+    }
+
+    private static int port(String[] args) {
+        return intArg(args, 1, GameServer.DEFAULT_PORT);
+    }
+
+    private static InetAddress bindAddress(String[] args) throws UnknownHostException {
+        return args.length > 2 ? InetAddress.getByName(args[2]) : InetAddress.getLoopbackAddress();
+    }
+
+    private static int intArg(String[] args, int index, int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package countries.app;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+
+public class GameClient {
+    private final String host;
+    private final int port;
+
+    public GameClient(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    public void connect() {
+        try (var socket = new Socket(host, port)) {
+            Thread input = new Thread(() -> pipe(System.in, socket));
+            input.setDaemon(true);
+            input.start();
+            socket.getInputStream().transferTo(System.out);
+        } catch (IOException e) {
+            System.err.println("Couldn't connect to " + host + ":" + port);
+        }
+    }
+
+    private void pipe(InputStream in, Socket socket) {
+        try {
+            OutputStream out = socket.getOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                out.flush();
+            }
+            socket.shutdownOutput();
+        } catch (IOException ignored) {
+        }
+    }
+}
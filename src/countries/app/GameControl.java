@@ -1,46 +1,145 @@
 package countries.app;
 
-import countries.exeption.DataImportException;
+import countries.dictionary.CountryDictionary;
+import countries.dictionary.DatasetRegistry;
+import countries.dictionary.FuzzyMatcher;
+import countries.dictionary.Language;
+import countries.dictionary.Paths;
 import countries.exeption.GiveUpException;
 import countries.exeption.NoSuchOptionException;
+import countries.exeption.DataImportException;
+import countries.history.GameCheckpoint;
+import countries.history.GameHistory;
+import countries.history.GameRecord;
+import countries.history.GameTimeline;
+import countries.history.HistoryQueries;
+import countries.history.RecordedGame;
+import countries.history.SavedGame;
+import countries.history.TimelineStore;
 import countries.io.ConsolePrinter;
 import countries.io.DataReader;
+import countries.metrics.Metrics;
+import countries.metrics.Operation;
+import countries.model.GameState;
+import countries.model.PrefixCounts;
+import countries.model.SortedCountries;
 import countries.model.Score;
+import countries.stats.CountryDifficulty;
+import countries.stats.CountryStatistics;
 
-import java.io.*;
-import java.time.Duration;
-import java.time.Instant;
-import java.util.HashMap;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.InputMismatchException;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public class GameControl {
-    private ConsolePrinter printer = new ConsolePrinter();
-    private DataReader dataReader = new DataReader(printer);
+    private ConsolePrinter printer;
+    private DataReader dataReader;
 
     private final String GIVE_UP = "Q";
     private final String PRINT_GUESSED = "P";
+    private final char HINT = '?';
+    private final String LIST_HINT = "??";
+    private final int FUZZY_DISTANCE = 2;
+    private final double HISTORY_BUCKET = 1000;
+    private final int HISTORY_BUCKETS = 10;
+    private final int HARDEST_COUNT = 10;
 
     private Language language = null;
-
-    private ScoreboardControl scoreboardControl = new ScoreboardControl(printer, dataReader);
-    private Map<String, Boolean> gameContainer = new HashMap<>();
-    private int guessed = 0;
+    private boolean anyLanguage = false;
+    private CountryDictionary dictionary;
+    private FuzzyMatcher fuzzyMatcher;
+    private PrefixCounts prefixCounts;
+    private SortedCountries sortedCountries;
+    private CountryStatistics statistics;
+
+    private ScoreboardControl scoreboardControl;
+    private WordListControl wordListControl;
+    private RaceControl raceControl;
+    private GameResources resources;
+    private String player = null;
+    private int reportedReloadFailures = 0;
+    private GameState gameState = new GameState();
+    private GameTimeline timeline = new GameTimeline();
+    private GameCheckpoint checkpoint;
+    private long timeStart;
 
     public GameControl() {
+        this(GameResources.start());
+    }
+
+    public GameControl(GameResources resources) {
+        this(new ConsolePrinter(), resources);
+    }
+
+    private GameControl(ConsolePrinter printer, GameResources resources) {
+        this(printer, new DataReader(printer), resources);
+    }
+
+    public GameControl(ConsolePrinter printer, DataReader dataReader, GameResources resources) {
+        this.printer = printer;
+        this.dataReader = dataReader;
+        this.scoreboardControl = new ScoreboardControl(printer, dataReader, resources);
+        this.wordListControl = new WordListControl(printer, dataReader);
+        this.raceControl = new RaceControl(printer, dataReader, resources);
+        this.resources = resources;
         chooseLanguage();
-        try {
-            scoreboardControl.initializeScoreboardFromDisc();
-        } catch (DataImportException e) {
-            printer.printErrorLine(e.getMessage() + " Initializing new scoreboard");
-            scoreboardControl.initializeNewScoreboard();
+        this.dictionary = resources.getDictionary();
+        this.statistics = resources.getStatistics();
+        this.checkpoint = resources.claimCheckpoint();
+        initializeMatching();
+    }
+
+    private void initializeMatching() {
+        fuzzyMatcher = new FuzzyMatcher(dictionary.fuzzyIndex(language), FUZZY_DISTANCE, gameState::isLoaded);
+        prefixCounts = new PrefixCounts(dictionary.prefixTrie(language), gameState);
+        sortedCountries = new SortedCountries(dictionary.collationOrder(language));
+        gameState.addListener(prefixCounts);
+        gameState.addListener(sortedCountries);
+    }
+
+    private void refreshDictionary() {
+        reportReloadFailure();
+        CountryDictionary latest = resources.getDictionary();
+        if (latest == dictionary)
+            return;
+        int dataset = datasetMask();
+        int[] picked = new int[gameState.getLoadedCount()];
+        int pickedCount = 0;
+        for (int id = gameState.nextLoaded(0); id >= 0; id = gameState.nextLoaded(id + 1)) {
+            if ((dictionary.regionMask(id) & dataset) != 0)
+                continue;
+            int moved = latest.indexOf(dictionary, id);
+            if (moved != CountryDictionary.NO_COUNTRY)
+                picked[pickedCount++] = moved;
         }
+        dictionary = latest;
+        statistics = resources.getStatistics();
+        gameState = new GameState();
+        initializeMatching();
+        gameState.load(Arrays.copyOf(picked, pickedCount));
+        gameState.load(dictionary.regionMasks(), dataset, 0);
+        DatasetRegistry datasets = resources.getDatasets();
+        String changes = datasets != null ? " (" + String.join(", ", datasets.getLastChanges()) + ")" : "";
+        printer.printLine("Country data reloaded" + changes + ", " + gameState.getLoadedCount() + " countries selected.");
+    }
+
+    private void reportReloadFailure() {
+        DatasetRegistry datasets = resources.getDatasets();
+        if (datasets == null || datasets.getFailureCount() == reportedReloadFailures)
+            return;
+        reportedReloadFailures = datasets.getFailureCount();
+        printer.printErrorLine(datasets.getLastError());
     }
 
     public void controlLoop() {
         OptionMainMenu option;
 
+        offerResume();
         do {
+            refreshDictionary();
             printMainMenu();
             option = getOptionMainMenu();
             switch (option) {
@@ -62,6 +161,30 @@ public class GameControl {
                 case PRINT_SCOREBOARD:
                     printScoreboard();
                     break;
+                case DUMP_METRICS:
+                    dumpMetrics();
+                    break;
+                case ANY_LANGUAGE:
+                    toggleAnyLanguage();
+                    break;
+                case HISTORY:
+                    printHistory();
+                    break;
+                case HARDEST_COUNTRIES:
+                    printHardestCountries();
+                    break;
+                case REPLAY:
+                    replay();
+                    break;
+                case CUSTOM_LIST:
+                    wordListControl.play();
+                    break;
+                case RACE:
+                    raceControl.play(language);
+                    break;
+                case RANKING:
+                    printRanking();
+                    break;
             }
         } while (option != OptionMainMenu.EXIT);
     }
@@ -101,7 +224,13 @@ public class GameControl {
         OptionMainMenu option = null;
         while (!optionFlag) {
             try {
-                option = OptionMainMenu.createFromInt(dataReader.getInt());
+                int input = dataReader.getInt();
+                Metrics.Timer timer = Metrics.start(Operation.MENU);
+                try {
+                    option = OptionMainMenu.createFromInt(input);
+                } finally {
+                    timer.stop();
+                }
                 optionFlag = true;
             } catch (NoSuchOptionException e) {
                 printer.printLine(e.getMessage() + ", choose again: ");
@@ -133,7 +262,7 @@ public class GameControl {
         for (OptionMainMenu option: OptionMainMenu.values()) {
             printer.printLine(option.toString());
         }
-        printer.printLine("Already " + gameContainer.size() + " countries selected.");
+        printer.printLine("Already " + gameState.getLoadedCount() + " countries selected.");
     }
 
     private void printCountriesMenu() {
@@ -149,48 +278,22 @@ public class GameControl {
         do {
             printCountriesMenu();
             option = getOptionCountriesMenu();
-            switch (option) {
-                case AFRICA:
-                    loadContinent(Paths.AFRICA.path[this.language.value]);
-                    break;
-                case ASIA:
-                    loadContinent(Paths.ASIA.path[this.language.value]);
-                    break;
-                case AUSTRALIA:
-                    loadContinent(Paths.AUSTRALIA.path[this.language.value]);
-                    break;
-                case EUROPE:
-                    loadContinent(Paths.EUROPE.path[this.language.value]);
-                    break;
-                case NORTH_AMERICA:
-                    loadContinent(Paths.NORTH_AMERICA.path[this.language.value]);
-                    break;
-                case SOUTH_AMERICA:
-                    loadContinent(Paths.SOUTH_AMERICA.path[this.language.value]);
-                    break;
-                case ALL_COUNTRIES:
-                    loadContinent(Paths.ALL_COUNTRIES.path[this.language.value]);
-                    break;
-                case UNRECOGNIZED_COUNTRIES:
-                    loadContinent(Paths.UNRECOGNIZED_COUNTRIES.path[this.language.value]);
-                    break;
-            }
+            if (option.region != null)
+                loadContinent(option.region);
+            else if (option == OptionCountriesMenu.CUSTOM_SET)
+                loadRegions(getRegionMask("include"), getRegionMask("exclude"));
         } while (option != OptionCountriesMenu.BACK);
     }
 
-    private void loadContinent(String path) {
-        try (
-                var fileReader = new FileReader(path);
-                var reader = new BufferedReader(fileReader);
-        ) {
-            String nextLine;
-            while ((nextLine = reader.readLine()) != null) {
-                gameContainer.put(nextLine.toUpperCase(), false);
-            }
-            printer.printLine("Added countries from selected continent.");
-        } catch (IOException e) {
-            printer.printErrorLine("Couldn't open file " + path);
-        }
+    private void loadContinent(Paths region) {
+        loadRegions(region.mask(), 0);
+    }
+
+    private void loadRegions(int include, int exclude) {
+        Metrics.Timer timer = Metrics.start(Operation.CONTINENT_LOAD);
+        gameState.load(dictionary.regionMasks(), include, exclude);
+        timer.stop(describeRegions(include, exclude));
+        printer.printLine("Added countries from selected continent.");
     }
 
     private void deleteCountries() {
@@ -199,143 +302,313 @@ public class GameControl {
         do {
             printCountriesMenu();
             option = getOptionCountriesMenu();
-            switch (option) {
-                case AFRICA:
-                    deleteContinent(Paths.AFRICA.path[this.language.value]);
-                    break;
-                case ASIA:
-                    deleteContinent(Paths.ASIA.path[this.language.value]);
-                    break;
-                case AUSTRALIA:
-                    deleteContinent(Paths.AUSTRALIA.path[this.language.value]);
-                    break;
-                case EUROPE:
-                    deleteContinent(Paths.EUROPE.path[this.language.value]);
-                    break;
-                case NORTH_AMERICA:
-                    deleteContinent(Paths.NORTH_AMERICA.path[this.language.value]);
-                    break;
-                case SOUTH_AMERICA:
-                    deleteContinent(Paths.SOUTH_AMERICA.path[this.language.value]);
-                    break;
-                case ALL_COUNTRIES:
-                    deleteContinent(Paths.ALL_COUNTRIES.path[this.language.value]);
-                    break;
-                case UNRECOGNIZED_COUNTRIES:
-                    deleteContinent(Paths.UNRECOGNIZED_COUNTRIES.path[this.language.value]);
-                    break;
-            }
+            if (option.region != null)
+                deleteContinent(option.region);
+            else if (option == OptionCountriesMenu.CUSTOM_SET)
+                deleteRegions(getRegionMask("include"), getRegionMask("exclude"));
         } while (option != OptionCountriesMenu.BACK);
     }
 
-    private void deleteContinent(String path) {
-        try (
-                var fileReader = new FileReader(path);
-                var reader = new BufferedReader(fileReader);
-        ) {
-            String nextLine;
-            while ((nextLine = reader.readLine()) != null) {
-                gameContainer.remove(nextLine.toUpperCase());
+    private void deleteContinent(Paths region) {
+        deleteRegions(region.mask(), 0);
+    }
+
+    private void deleteRegions(int include, int exclude) {
+        Metrics.Timer timer = Metrics.start(Operation.CONTINENT_DELETE);
+        gameState.remove(dictionary.regionMasks(), include, exclude);
+        timer.stop(describeRegions(include, exclude));
+    }
+
+    private int getRegionMask(String action) {
+        printer.printText("Continents to " + action + " (numbers separated by spaces, " + OptionCountriesMenu.CUSTOM_SET.value + " - everything, empty - none): ");
+        int mask = 0;
+        for (String token : dataReader.getString().trim().split("\\s+")) {
+            if (token.isEmpty())
+                continue;
+            try {
+                OptionCountriesMenu option = OptionCountriesMenu.createFromInt(Integer.parseInt(token));
+                if (option.region != null)
+                    mask |= option.region.mask();
+                else if (option == OptionCountriesMenu.CUSTOM_SET)
+                    mask |= Paths.allMask();
+            } catch (NumberFormatException | NoSuchOptionException e) {
+                printer.printLine("Skipped " + token + ".");
             }
-        } catch (IOException e) {
-            printer.printErrorLine("Couldn't open file " + path);
         }
+        return mask;
+    }
+
+    private String describeRegions(int include, int exclude) {
+        StringBuilder description = new StringBuilder();
+        for (Paths region : Paths.values()) {
+            if ((include & region.mask()) != 0)
+                description.append(description.length() == 0 ? "" : "+").append(region.name());
+        }
+        for (Paths region : Paths.values()) {
+            if ((exclude & region.mask()) != 0)
+                description.append('-').append(region.name());
+        }
+        return description.toString();
     }
 
     private void printLoadedCountries() {
-        for(String country: gameContainer.keySet())
-            printer.printLine(country);
-        printer.printLine(gameContainer.size() + " countries loaded");
+        sortedCountries.forEachLoaded(id -> printer.printLine(dictionary.name(language, id)));
+        printer.printLine(gameState.getLoadedCount() + " countries loaded");
+    }
+
+    private void offerResume() {
+        if (checkpoint == null)
+            return;
+        SavedGame saved;
+        try {
+            saved = checkpoint.read();
+        } catch (IOException e) {
+            printer.printErrorLine("Couldn't read " + GameCheckpoint.CHECKPOINT_FILE_PATH + ".");
+            return;
+        }
+        if (saved == null || saved.getCountries() != dictionary.size()
+                || saved.getFingerprint() != dictionary.fingerprint())
+            return;
+        printer.printText("Unfinished game found (" + saved.getGuessedCount() + " of " + saved.getLoadedCount()
+                + " guessed after " + TimeUnit.NANOSECONDS.toMillis(saved.getElapsed()) + " ms). Resume? (Y/N): ");
+        if (!dataReader.getStringCaseInsensitive().equalsIgnoreCase("Y")) {
+            clearCheckpoint();
+            return;
+        }
+        try {
+            language = Language.createFromInt(saved.getLanguage());
+        } catch (NoSuchOptionException e) {
+            clearCheckpoint();
+            return;
+        }
+        gameState = new GameState();
+        initializeMatching();
+        saved.restore(gameState);
+        play(saved);
     }
 
     private void startGuessing() {
-        if(gameContainer.size() > 0) {
+        if(gameState.getLoadedCount() > 0) {
             restart();
-            boolean giveUpFlag = true;
-            printer.printLine("Good luck!");
-            printer.printLine("(Q - give up, P - print guessed countries)");
-            Instant timeStart = Instant.now();
-            while (guessed != gameContainer.size() && giveUpFlag) {
-                try {
-                    printer.printText("Your guess: ");
-                    if (guess()) guessed++;
-                    printer.printLine("You guessed " + guessed + " countries. " + (gameContainer.size() - guessed) + " left.");
-                } catch (GiveUpException e) {
-                    giveUpFlag = false;
-                }
+            play(null);
+        }
+        else printer.printLine("Add countries from at least one continent.");
+    }
+
+    private void play(SavedGame resumed) {
+        boolean giveUpFlag = true;
+        printer.printLine("Good luck!");
+        printer.printLine("(Q - give up, P - print guessed countries, ?<letters> - how many left with that beginning, ??<letters> - list them)");
+        int dataset = datasetMask();
+        timeStart = System.nanoTime() - (resumed == null ? 0 : resumed.getElapsed());
+        timeline.start(gameState, dictionary.fingerprint(), language.getValue(), dataset, timeStart);
+        if (resumed != null)
+            resumed.restore(timeline, timeStart);
+        startCheckpoint(dataset, resumed);
+        while (!gameState.isFinished() && giveUpFlag) {
+            try {
+                printer.printText("Your guess: ");
+                guess();
+                printer.printLine("You guessed " + gameState.getGuessedCount() + " countries. " + gameState.getRemainingCount() + " left.");
+            } catch (GiveUpException e) {
+                giveUpFlag = false;
             }
-            Instant timeEnd = Instant.now();
+        }
+        long timeEnd = System.nanoTime();
+        timeline.end(timeEnd);
+        clearCheckpoint();
+        if (!giveUpFlag)
+            recordMisses();
+
+        Score score = createScore(timeStart, timeEnd, gameState.getGuessedCount());
+        recordHistory(score, dataset, !giveUpFlag);
+        recordTimeline();
+
+        printer.printLine("Your time: " + score.getTime() + " ms, gives you " + score.getScore() + " score.");
+        if (gameState.getGuessedCount() > 0)
+            scoreboardControl.printRank(score, player);
+    }
 
-            Score score = createScore(timeStart, timeEnd, guessed);
+    private void startCheckpoint(int dataset, SavedGame resumed) {
+        if (checkpoint == null)
+            return;
+        try {
+            checkpoint.start(gameState, dictionary.size(), dictionary.fingerprint(), language.getValue(), dataset,
+                    resumed);
+        } catch (IOException e) {
+            checkpointFailed();
+        }
+    }
 
-            printer.printLine("Your time: " + score.getTime() + " ms, gives you " + score.getScore() + " score.");
+    private void recordCheckpoint(int id, long now) {
+        if (checkpoint == null)
+            return;
+        try {
+            checkpoint.recordGuess(id, now - timeStart);
+        } catch (IOException e) {
+            checkpointFailed();
         }
-        else printer.printLine("Add countries from at least one continent.");
     }
 
-    private Score createScore(Instant timeStart, Instant timeEnd, int guessed) {
+    private void clearCheckpoint() {
+        if (checkpoint == null)
+            return;
+        try {
+            checkpoint.clear();
+        } catch (IOException e) {
+            checkpointFailed();
+        }
+    }
+
+    private void checkpointFailed() {
+        printer.printErrorLine("Couldn't write " + GameCheckpoint.CHECKPOINT_FILE_PATH + ", this game can't be resumed.");
+        checkpoint = null;
+    }
+
+    private Score createScore(long timeStart, long timeEnd, int guessed) {
         Score score = new Score(calculateTimeToMillis(timeStart, timeEnd));
         score.calculateScore(guessed);
         qualifiedScore(score);
         return score;
     }
 
-    private long calculateTimeToMillis(Instant timeStart, Instant timeEnd) {
-        return Duration.between(timeStart, timeEnd).toMillis();
+    private long calculateTimeToMillis(long timeStart, long timeEnd) {
+        return TimeUnit.NANOSECONDS.toMillis(timeEnd - timeStart);
     }
 
     private void qualifiedScore(Score score) {
-        signScore(score);
-        if(scoreboardControl.getScoreboardList().size() < 10)
-            scoreboardControl.addScore(score);
-        else if(qualified(score))
-            scoreboardControl.replaceLast(score);
+        if(scoreboardControl.qualifies(score)) {
+            signScore(score);
+            if(!scoreboardControl.addScore(score))
+                printer.printLine("Sorry, other players were faster and pushed you out of TOP " + scoreboardControl.getScoreboard().getCapacity() + ".");
+        }
+    }
+
+    private void signScore(Score score) {
+        printer.printLine("Congratulations you're in TOP " + scoreboardControl.getScoreboard().getCapacity() + "!");
+        if (player == null) {
+            score.setName(getPlayer());
+            return;
+        }
+        printer.printText("Insert your name (empty - " + player + "): ");
+        String name = dataReader.getString();
+        if (!name.isBlank())
+            player = name;
+        score.setName(player);
     }
 
-    private boolean qualified(Score score) {
-        return scoreboardControl.getScoreboardList().get(9).getScore() > score.getScore();
+    private String getPlayer() {
+        if (player == null) {
+            printer.printText("Insert your name: ");
+            player = dataReader.getString();
+        }
+        return player;
     }
 
-    private void signScore(Score score) {
-        printer.printText("Congratulations you're in TOP 10! Insert your name: ");
-        score.setName(dataReader.getString());
+    private void recordHistory(Score score, int dataset, boolean giveUp) {
+        GameHistory history = resources.getHistory();
+        if (history == null)
+            return;
+        try {
+            history.append(new GameRecord(score.getTime(), gameState.getGuessedCount(), gameState.getLoadedCount(),
+                    dataset, language.getValue(), getPlayer(), giveUp));
+        } catch (IOException e) {
+            printer.printErrorLine("Couldn't write game to " + GameHistory.HISTORY_FILE_PATH + ".");
+        }
+    }
+
+    private void recordTimeline() {
+        TimelineStore timelines = resources.getTimelines();
+        if (timelines == null)
+            return;
+        try {
+            printer.printLine("Game saved for replay as #" + timelines.append(timeline) + ".");
+        } catch (IOException e) {
+            printer.printErrorLine("Couldn't write game to " + TimelineStore.TIMELINE_FILE_PATH + ".");
+        }
+    }
+
+    private int datasetMask() {
+        int dataset = 0;
+        for (Paths region : Paths.values()) {
+            int[] members = dictionary.members(region);
+            boolean loaded = members.length > 0;
+            for (int i = 0; i < members.length && loaded; i++)
+                loaded = gameState.isLoaded(members[i]);
+            if (loaded)
+                dataset |= region.mask();
+        }
+        return dataset;
     }
 
     private boolean guess() {
-        String guess = dataReader.getStringCaseInsensitive();
-        if(guess.equals(GIVE_UP)) {
+        CharSequence guess = dataReader.getNormalizedLine();
+        Metrics.Timer timer = Metrics.start(Operation.GUESS);
+        try {
+            return processGuess(guess);
+        } finally {
+            timer.stop();
+        }
+    }
+
+    private boolean processGuess(CharSequence guess) {
+        if(GIVE_UP.contentEquals(guess)) {
 //            printRemaining();
             throw new GiveUpException("User gave up");
         }
-        if(guess.equals(PRINT_GUESSED)) {
+        if(PRINT_GUESSED.contentEquals(guess)) {
             printGuessed();
         }
-        if (gameContainer.containsKey(guess)) {
-            gameContainer.replace(guess, true);
-            return true;
+        if(guess.length() > 1 && LIST_HINT.contentEquals(guess.subSequence(0, 2))) {
+            printMatching(guess.subSequence(2, guess.length()));
+            return false;
+        }
+        if(guess.length() > 0 && guess.charAt(0) == HINT) {
+            printHint(guess.subSequence(1, guess.length()));
+            return false;
+        }
+        int id = anyLanguage ? dictionary.indexOfAny(guess) : dictionary.indexOf(language, guess);
+        if (id == CountryDictionary.NO_COUNTRY) {
+            id = fuzzyMatcher.match(guess);
+            if (id != CountryDictionary.NO_COUNTRY && !gameState.isGuessed(id))
+                printer.printLine("Accepted as " + dictionary.name(language, id) + ".");
         }
-        return false;
+        boolean guessed = gameState.guess(id);
+        if (guessed) {
+            long now = System.nanoTime();
+            statistics.recordGuess(id, gameState.getGuessedCount());
+            timeline.recordGuess(id, now);
+            recordCheckpoint(id, now);
+        } else {
+            timeline.recordMiss(System.nanoTime());
+        }
+        return guessed;
+    }
+
+    private void recordMisses() {
+        for (int id = gameState.nextRemaining(0); id >= 0; id = gameState.nextRemaining(id + 1))
+            statistics.recordMiss(id);
     }
 
     private void restart() {
-        for (String country: gameContainer.keySet()) {
-            gameContainer.replace(country, false);
-        }
-        guessed = 0;
+        gameState.restart();
+    }
+
+    private void printHint(CharSequence prefix) {
+        printer.printLine(prefixCounts.countRemaining(prefix) + " countries left starting with \"" + prefix + "\".");
+    }
+
+    private void printMatching(CharSequence prefix) {
+        prefixCounts.forEachRemaining(prefix, id -> printer.printText(dictionary.name(language, id) + " "));
+        printer.printLine();
     }
 
     private void printRemaining() {
-        for(String country: gameContainer.keySet()){
-            if(!gameContainer.get(country))
-                printer.printErrorLine(country);
-        }
+        sortedCountries.forEachRemaining(id -> printer.printErrorLine(dictionary.name(language, id)));
     }
 
     private void printGuessed() {
-        for(String country: gameContainer.keySet()){
-            if(gameContainer.get(country))
-                printer.printText(country + " ");
-        }
+        sortedCountries.forEachGuessed(id -> printer.printText(dictionary.name(language, id) + " "));
         printer.printLine();
     }
 
@@ -343,8 +616,178 @@ public class GameControl {
         scoreboardControl.printScoreboard();
     }
 
+    private void printRanking() {
+        long pages = scoreboardControl.getRankingPages();
+        if (pages == 0) {
+            printer.printLine("No games played yet.");
+            return;
+        }
+        printer.printText("Page (1-" + pages + "): ");
+        int page;
+        try {
+            page = dataReader.getInt();
+        } catch (InputMismatchException e) {
+            printer.printLine("Inserted value is incorrect.");
+            return;
+        }
+        if (page < 1 || page > pages) {
+            printer.printLine("No page " + page + ".");
+            return;
+        }
+        scoreboardControl.printScoreboard(page);
+    }
+
+    private void dumpMetrics() {
+        try {
+            printer.printLine("Metrics written to " + Metrics.dump());
+        } catch (IOException e) {
+            printer.printErrorLine("Couldn't write metrics file.");
+        }
+    }
+
+    private void printHardestCountries() {
+        List<CountryDifficulty> ranking = statistics.ranking();
+        if (ranking.isEmpty()) {
+            printer.printLine("No games played yet.");
+            return;
+        }
+        for (int i = 0; i < Math.min(HARDEST_COUNT, ranking.size()); i++) {
+            CountryDifficulty difficulty = ranking.get(i);
+            printer.printLine((i + 1) + ". " + dictionary.name(language, difficulty.getId())
+                    + " - missed " + difficulty.getMissed() + " of " + (difficulty.getGuessed() + difficulty.getMissed())
+                    + ", average guess position " + String.format("%.1f", difficulty.getAveragePosition()));
+        }
+    }
+
+    private void replay() {
+        TimelineStore timelines = resources.getTimelines();
+        if (timelines == null || timelines.size() == 0) {
+            printer.printLine("No recorded games.");
+            return;
+        }
+        printer.printText("Game number (1-" + timelines.size() + "): ");
+        int number;
+        try {
+            number = dataReader.getInt();
+        } catch (InputMismatchException e) {
+            printer.printLine("Inserted value is incorrect.");
+            return;
+        }
+        if (number < 1 || number > timelines.size()) {
+            printer.printLine("No recorded game " + number + ".");
+            return;
+        }
+        try {
+            RecordedGame game = timelines.read(number);
+            if (!game.isRecordedWith(dictionary.fingerprint())) {
+                printer.printLine("Game " + number + " was recorded with different country data and can't be replayed.");
+                return;
+            }
+            if (!game.fitsIn(dictionary.size())) {
+                printer.printErrorLine("Couldn't replay game " + number + ".");
+                return;
+            }
+            Language recorded = Language.createFromInt(game.getLanguage());
+            CountryStatistics replayed = new CountryStatistics(dictionary.size());
+            Score score = game.replay(replayed);
+            printReplayedGuesses(game, recorded, replayed);
+            printReplayedMisses(recorded, replayed);
+            printer.printLine("Replayed " + describeRegions(game.getDataset(), 0) + " game: " + score.getTime()
+                    + " ms, gives " + score.getScore() + " score.");
+        } catch (IOException | DataImportException | NoSuchOptionException e) {
+            printer.printErrorLine("Couldn't replay game " + number + ".");
+        }
+    }
+
+    private void printReplayedGuesses(RecordedGame game, Language recorded, CountryStatistics replayed) {
+        long previous = 0;
+        int misses = 0;
+        for (int event = 0; event < game.getEventCount(); event++) {
+            int id = game.getCountry(event);
+            if (id == CountryDictionary.NO_COUNTRY) {
+                misses++;
+                continue;
+            }
+            CountryDifficulty difficulty = replayed.get(id);
+            if (difficulty.getGuessed() == 0)
+                continue;
+            long elapsed = game.getElapsed(event);
+            printer.printLine(Math.round(difficulty.getAveragePosition()) + ". " + dictionary.name(recorded, id)
+                    + " - " + TimeUnit.NANOSECONDS.toMillis(elapsed - previous) + " ms, " + misses + " wrong guesses");
+            previous = elapsed;
+            misses = 0;
+        }
+    }
+
+    private void printReplayedMisses(Language recorded, CountryStatistics replayed) {
+        StringBuilder missed = new StringBuilder();
+        for (CountryDifficulty difficulty : replayed.ranking()) {
+            if (difficulty.getMissed() > 0)
+                missed.append(missed.length() == 0 ? "" : ", ").append(dictionary.name(recorded, difficulty.getId()));
+        }
+        if (missed.length() > 0)
+            printer.printLine("Not guessed: " + missed + ".");
+    }
+
+    private void syncHistory() {
+        GameHistory history = resources.getHistory();
+        if (history == null)
+            return;
+        try {
+            history.sync();
+        } catch (IOException e) {
+            printer.printErrorLine("Couldn't write " + GameHistory.HISTORY_FILE_PATH + ".");
+        }
+    }
+
+    private void syncTimelines() {
+        TimelineStore timelines = resources.getTimelines();
+        if (timelines == null)
+            return;
+        try {
+            timelines.sync();
+        } catch (IOException e) {
+            printer.printErrorLine("Couldn't write " + TimelineStore.TIMELINE_FILE_PATH + ".");
+        }
+    }
+
+    private void printHistory() {
+        GameHistory history = resources.getHistory();
+        if (history == null) {
+            printer.printLine("Game history is not available.");
+            return;
+        }
+        try {
+            long[] giveUps = HistoryQueries.giveUpCounts(history);
+            printer.printLine(history.size() + " games played, " + giveUps[1] + " given up.");
+            printer.printLine("Average score per player:");
+            for (Map.Entry<String, Double> entry : HistoryQueries.averageScoreByPlayer(history).entrySet())
+                printer.printLine("  " + entry.getKey() + ": " + Math.round(entry.getValue()));
+            printer.printLine("Best time per dataset:");
+            for (Map.Entry<Integer, Long> entry : HistoryQueries.bestTimeByDataset(history).entrySet())
+                printer.printLine("  " + describeRegions(entry.getKey(), 0) + ": " + entry.getValue() + " ms");
+            printer.printLine("Score distribution:");
+            long[] distribution = HistoryQueries.scoreDistribution(history, HISTORY_BUCKET, HISTORY_BUCKETS);
+            for (int i = 0; i < distribution.length; i++) {
+                String range = i == distribution.length - 1 ? ">= " + (long) (i * HISTORY_BUCKET)
+                        : (long) (i * HISTORY_BUCKET) + "-" + (long) ((i + 1) * HISTORY_BUCKET);
+                printer.printLine("  " + range + ": " + distribution[i]);
+            }
+        } catch (IOException e) {
+            printer.printErrorLine("Couldn't read " + GameHistory.HISTORY_FILE_PATH + ".");
+        }
+    }
+
+    private void toggleAnyLanguage() {
+        anyLanguage = !anyLanguage;
+        printer.printLine(anyLanguage ? "Answers are accepted in any language." : "Answers are accepted only in chosen language.");
+    }
+
     private void exit() {
         scoreboardControl.saveScoreboard();
+        syncHistory();
+        syncTimelines();
+        printer.flush();
         dataReader.close();
     }
 
@@ -354,7 +797,15 @@ public class GameControl {
         ADD_MORE_COUNTRIES(2, "Add more countries"),
         DELETE_COUNTRIES(3, "Delete countries"),
         SEE_COUNTRIES(4, "See added countries"),
-        PRINT_SCOREBOARD(5, "Print scoreboard");
+        PRINT_SCOREBOARD(5, "Print scoreboard"),
+        DUMP_METRICS(6, "Dump metrics"),
+        ANY_LANGUAGE(7, "Accept answers in any language (on/off)"),
+        HISTORY(8, "Game history statistics"),
+        HARDEST_COUNTRIES(9, "Hardest countries"),
+        REPLAY(10, "Replay recorded game"),
+        CUSTOM_LIST(11, "Play custom word list"),
+        RACE(12, "Race other players on a shared map"),
+        RANKING(13, "Browse full ranking");
 
         private int value;
     private String description;
@@ -380,22 +831,25 @@ public class GameControl {
 }
 
     private enum OptionCountriesMenu {
-        BACK(0, "Back"),
-        AFRICA(1, "Africa"),
-        ASIA(2, "Asia"),
-        AUSTRALIA(3, "Australia"),
-        EUROPE(4, "Europe"),
-        NORTH_AMERICA(5, "North America"),
-        SOUTH_AMERICA(6, "South America"),
-        ALL_COUNTRIES(7, "All countries"),
-        UNRECOGNIZED_COUNTRIES(8, "Unrecognized countries");
+        BACK(0, "Back", null),
+        AFRICA(1, "Africa", Paths.AFRICA),
+        ASIA(2, "Asia", Paths.ASIA),
+        AUSTRALIA(3, "Australia", Paths.AUSTRALIA),
+        EUROPE(4, "Europe", Paths.EUROPE),
+        NORTH_AMERICA(5, "North America", Paths.NORTH_AMERICA),
+        SOUTH_AMERICA(6, "South America", Paths.SOUTH_AMERICA),
+        ALL_COUNTRIES(7, "All countries", Paths.ALL_COUNTRIES),
+        UNRECOGNIZED_COUNTRIES(8, "Unrecognized countries", Paths.UNRECOGNIZED_COUNTRIES),
+        CUSTOM_SET(9, "Custom set (combine and exclude continents)", null);
 
         private int value;
         private String description;
+        private Paths region;
 
-        OptionCountriesMenu(int value, String description) {
+        OptionCountriesMenu(int value, String description, Paths region) {
             this.value = value;
             this.description = description;
+            this.region = region;
         }
 
         public static OptionCountriesMenu createFromInt(int option) {
@@ -412,47 +866,4 @@ public class GameControl {
         }
 
     }
-
-    private enum Paths {
-        AFRICA(new String[]{"src/countries/countries/AfricaPL.txt", "src/countries/countries/AfricaEN.txt"}),
-        ASIA(new String[] {"src/countries/countries/AsiaPL.txt", "src/countries/countries/AsiaEN.txt"}),
-        AUSTRALIA(new String[] {"src/countries/countries/AustraliaPL.txt", "src/countries/countries/AustraliaEN.txt"}),
-        EUROPE(new String[] {"src/countries/countries/EuropePL.txt", "src/countries/countries/EuropeEN.txt"}),
-        NORTH_AMERICA(new String[] {"src/countries/countries/NorthAmericaPL.txt", "src/countries/countries/NorthAmericaEN.txt"}),
-        SOUTH_AMERICA(new String[] {"src/countries/countries/SouthAmericaPL.txt", "src/countries/countries/SouthAmericaEN.txt"}),
-        ALL_COUNTRIES(new String[] {"src/countries/countries/AllCountriesPL.txt", "src/countries/countries/AllCountriesEN.txt"}),
-        UNRECOGNIZED_COUNTRIES(new String[] {"src/countries/countries/UnrecognizedCountriesPL.txt", "src/countries/countries/UnrecognizedCountriesEN.txt"});
-
-        private String[] path;
-
-        Paths(String[] path) {
-            this.path = path;
-        }
-    }
-
-    private enum Language {
-        POLISH(0, "polski"),
-        ENGLISH(1, "english");
-
-        private int value;
-        private String language;
-
-        Language(int value, String language) {
-            this.value = value;
-            this.language = language;
-        }
-
-        public static Language createFromInt(int option) {
-            try {
-                return Language.values()[option];
-            } catch (ArrayIndexOutOfBoundsException e) {
-                throw new NoSuchOptionException("No option with id " + option);
-            }
-        }
-
-        @Override
-        public String toString() {
-            return value + " - " + language;
-        }
-    }
 }
\ No newline at end of file
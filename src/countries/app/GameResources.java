@@ -0,0 +1,217 @@
+package countries.app;
+
+import countries.dictionary.CountryDictionary;
+import countries.dictionary.DatasetRegistry;
+import countries.dictionary.Language;
+import countries.exeption.DataImportException;
+import countries.history.GameCheckpoint;
+import countries.history.GameHistory;
+import countries.history.HistoryQueries;
+import countries.history.TimelineStore;
+import countries.io.ConsolePrinter;
+import countries.io.ScoreJournal;
+import countries.metrics.Metrics;
+import countries.metrics.Operation;
+import countries.model.RankIndex;
+import countries.model.Scoreboard;
+import countries.race.RaceGame;
+import countries.stats.CountryStatistics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class GameResources {
+    private static final ExecutorService LOADER = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "resources-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final CompletableFuture<CountryDictionary> dictionary;
+    private final CompletableFuture<DatasetRegistry> datasets;
+    private final CompletableFuture<ScoreJournal> journal;
+    private final CompletableFuture<Scoreboard> scoreboard;
+    private final CompletableFuture<GameHistory> history;
+    private final CompletableFuture<RankIndex> ranks;
+    private volatile CompletableFuture<CountryStatistics> statistics;
+    private final CompletableFuture<TimelineStore> timelines;
+    private final CompletableFuture<GameCheckpoint> checkpoint;
+    private final AtomicBoolean checkpointClaimed = new AtomicBoolean();
+    private final AtomicReference<RaceGame> race = new AtomicReference<>();
+    private final AtomicBoolean loadErrorReported = new AtomicBoolean();
+    private volatile String loadError = null;
+
+    public GameResources(CountryDictionary dictionary, Scoreboard scoreboard, ScoreJournal journal) {
+        this(dictionary, scoreboard, journal, null);
+    }
+
+    public GameResources(CountryDictionary dictionary, Scoreboard scoreboard, ScoreJournal journal, GameHistory history) {
+        this(dictionary, scoreboard, journal, history, null);
+    }
+
+    public GameResources(CountryDictionary dictionary, Scoreboard scoreboard, ScoreJournal journal, GameHistory history,
+                         TimelineStore timelines) {
+        this.dictionary = CompletableFuture.completedFuture(dictionary);
+        this.datasets = CompletableFuture.completedFuture(null);
+        this.journal = CompletableFuture.completedFuture(journal);
+        this.scoreboard = CompletableFuture.completedFuture(scoreboard);
+        this.history = CompletableFuture.completedFuture(history);
+        this.ranks = this.history.thenApply(GameResources::rank).exceptionally(e -> new RankIndex());
+        this.statistics = CompletableFuture.completedFuture(new CountryStatistics(dictionary.size()));
+        this.timelines = CompletableFuture.completedFuture(timelines);
+        this.checkpoint = CompletableFuture.completedFuture(null);
+    }
+
+    private GameResources(boolean checkpoints) {
+        dictionary = CompletableFuture.supplyAsync(CountryDictionary::open, LOADER);
+        for (Language language : Language.values())
+            dictionary.thenAcceptAsync(loaded -> warmUp(loaded, language), LOADER);
+        datasets = dictionary.thenApplyAsync(loaded -> DatasetRegistry.watch(loaded, this::reloaded), LOADER)
+                .exceptionally(e -> null);
+        journal = CompletableFuture.supplyAsync(ScoreJournal::open, LOADER);
+        scoreboard = journal.thenApplyAsync(GameResources::restore, LOADER)
+                .exceptionally(this::fallback);
+        history = CompletableFuture.supplyAsync(GameHistory::open, LOADER);
+        ranks = history.thenApplyAsync(GameResources::rank, LOADER).exceptionally(e -> new RankIndex());
+        statistics = dictionary.thenApply(loaded -> new CountryStatistics(loaded.size()));
+        timelines = CompletableFuture.supplyAsync(TimelineStore::open, LOADER);
+        checkpoint = checkpoints ? CompletableFuture.supplyAsync(GameCheckpoint::open, LOADER)
+                : CompletableFuture.completedFuture(null);
+    }
+
+    public static GameResources start() {
+        return new GameResources(true);
+    }
+
+    public static GameResources loadShared(ConsolePrinter printer) throws DataImportException {
+        GameResources resources = new GameResources(false);
+        resources.getDictionary();
+        resources.getScoreboard();
+        resources.reportLoadError(printer);
+        return resources;
+    }
+
+    private void reloaded(CountryDictionary previous, CountryDictionary next) {
+        warmUp(next);
+        CountryStatistics remapped = await(statistics).remap(next.size(), id -> next.indexOf(previous, id));
+        statistics = CompletableFuture.completedFuture(remapped);
+    }
+
+    private static void warmUp(CountryDictionary dictionary) {
+        for (Language language : Language.values())
+            warmUp(dictionary, language);
+    }
+
+    private static void warmUp(CountryDictionary dictionary, Language language) {
+        dictionary.fuzzyIndex(language);
+        dictionary.prefixTrie(language);
+        dictionary.collationOrder(language);
+    }
+
+    private static Scoreboard restore(ScoreJournal journal) {
+        Scoreboard scoreboard = new Scoreboard();
+        Metrics.Timer timer = Metrics.start(Operation.SCOREBOARD_LOAD);
+        try {
+            journal.restore(scoreboard);
+        } finally {
+            timer.stop();
+        }
+        return scoreboard;
+    }
+
+    private static RankIndex rank(GameHistory history) {
+        if (history == null)
+            return new RankIndex();
+        try {
+            return HistoryQueries.rankIndex(history);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Scoreboard fallback(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (!(cause instanceof DataImportException))
+            throw new CompletionException(cause);
+        loadError = cause.getMessage();
+        return new Scoreboard();
+    }
+
+    public void reportLoadError(ConsolePrinter printer) {
+        if (!loadErrorReported.compareAndSet(false, true))
+            return;
+        if (loadError != null)
+            printer.printErrorLine(loadError + " Initializing new scoreboard, scores won't be saved until it is fixed.");
+        ScoreJournal loaded = getJournal();
+        if (loaded != null && loaded.getWarning() != null)
+            printer.printErrorLine(loaded.getWarning());
+    }
+
+    public CountryDictionary getDictionary() {
+        CountryDictionary loaded = await(dictionary);
+        DatasetRegistry registry = datasets.getNow(null);
+        return registry != null ? registry.current() : loaded;
+    }
+
+    public DatasetRegistry getDatasets() {
+        return datasets.getNow(null);
+    }
+
+    public Scoreboard getScoreboard() {
+        return await(scoreboard);
+    }
+
+    public ScoreJournal getJournal() {
+        ScoreJournal loaded = journal.exceptionally(e -> null).join();
+        scoreboard.exceptionally(e -> null).join();
+        return loadError == null ? loaded : null;
+    }
+
+    public RankIndex getRanks() {
+        return await(ranks);
+    }
+
+    public CountryStatistics getStatistics() {
+        return await(statistics);
+    }
+
+    public RaceGame currentRace() {
+        while (true) {
+            RaceGame current = race.get();
+            if (current != null && !current.isFinished())
+                return current;
+            RaceGame next = new RaceGame(getDictionary());
+            if (race.compareAndSet(current, next))
+                return next;
+        }
+    }
+
+    public TimelineStore getTimelines() {
+        return timelines.exceptionally(e -> null).join();
+    }
+
+    public GameCheckpoint claimCheckpoint() {
+        GameCheckpoint claimed = checkpoint.exceptionally(e -> null).join();
+        return claimed != null && checkpointClaimed.compareAndSet(false, true) ? claimed : null;
+    }
+
+    public GameHistory getHistory() {
+        return history.exceptionally(e -> null).join();
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+}
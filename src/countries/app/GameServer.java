@@ -0,0 +1,82 @@
+package countries.app;
+
+import countries.io.ConsolePrinter;
+import countries.io.DataReader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class GameServer {
+    public static final int DEFAULT_PORT = 5050;
+
+    private final ConsolePrinter printer = new ConsolePrinter();
+    private final InetAddress address;
+    private final int port;
+    private GameResources resources;
+
+    public GameServer(int port) {
+        this(InetAddress.getLoopbackAddress(), port);
+    }
+
+    public GameServer(InetAddress address, int port) {
+        this.address = address;
+        this.port = port;
+    }
+
+    public void start() {
+        resources = GameResources.loadShared(printer);
+
+        ExecutorService executor = newSessionExecutor();
+        try (var serverSocket = new ServerSocket(port, 0, address)) {
+            log("Listening on " + address.getHostAddress() + ":" + serverSocket.getLocalPort());
+            while (!serverSocket.isClosed()) {
+                Socket socket = serverSocket.accept();
+                executor.execute(() -> runSession(socket));
+            }
+        } catch (IOException e) {
+            logError("Server stopped: " + e.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void runSession(Socket socket) {
+        try (socket) {
+            var out = socket.getOutputStream();
+            var sessionPrinter = new ConsolePrinter(out, out, StandardCharsets.UTF_8);
+            var sessionReader = new DataReader(socket.getInputStream(), sessionPrinter);
+            GameControl gameControl = new GameControl(sessionPrinter, sessionReader, resources);
+            gameControl.controlLoop();
+        } catch (IOException | UncheckedIOException | NoSuchElementException | IllegalStateException e) {
+            logError("Session " + socket.getRemoteSocketAddress() + " closed: " + e.getMessage());
+        }
+    }
+
+    private void log(String line) {
+        synchronized (printer) {
+            printer.printLine(line);
+            printer.flush();
+        }
+    }
+
+    private void logError(String line) {
+        synchronized (printer) {
+            printer.printErrorLine(line);
+        }
+    }
+
+    private static ExecutorService newSessionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+}
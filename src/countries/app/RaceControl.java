@@ -0,0 +1,68 @@
+package countries.app;
+
+import countries.dictionary.CountryDictionary;
+import countries.dictionary.Language;
+import countries.io.ConsolePrinter;
+import countries.io.DataReader;
+import countries.race.RaceGame;
+import countries.race.RacePlayer;
+import countries.race.Standing;
+
+public class RaceControl {
+    private final String LEAVE = "Q";
+    private final String PRINT_STANDINGS = "P";
+
+    private ConsolePrinter printer;
+    private DataReader dataReader;
+    private GameResources resources;
+
+    public RaceControl(ConsolePrinter printer, DataReader dataReader, GameResources resources) {
+        this.printer = printer;
+        this.dataReader = dataReader;
+        this.resources = resources;
+    }
+
+    public void play(Language language) {
+        RaceGame race = resources.currentRace();
+        CountryDictionary dictionary = race.getDictionary();
+        printer.printText("Your name in the race: ");
+        RacePlayer player = race.join(dataReader.getString().strip());
+        printer.printLine("Joined a race for " + race.getTotal() + " countries, " + race.getRemaining() + " still free.");
+        printer.printLine("(Q - leave, P - standings)");
+        while (!race.isFinished()) {
+            printer.printText("Your guess: ");
+            CharSequence guess = dataReader.getNormalizedLine();
+            if (LEAVE.contentEquals(guess))
+                break;
+            if (PRINT_STANDINGS.contentEquals(guess)) {
+                printStandings(race);
+                continue;
+            }
+            int id = dictionary.indexOf(language, guess);
+            if (id == CountryDictionary.NO_COUNTRY)
+                id = dictionary.indexOfAny(guess);
+            if (race.claim(player, id)) {
+                printer.printLine("Claimed " + dictionary.name(language, id) + "! " + race.getRemaining() + " left.");
+                continue;
+            }
+            int owner = race.ownerOf(id);
+            if (owner == player.getId())
+                printer.printLine(dictionary.name(language, id) + " is already yours.");
+            else if (owner >= 0)
+                printer.printLine(dictionary.name(language, id) + " already belongs to " + race.player(owner).getName() + ".");
+            else
+                printer.printLine("Not in this race.");
+        }
+        if (race.isFinished())
+            printer.printLine("The race is over.");
+        printStandings(race);
+    }
+
+    private void printStandings(RaceGame race) {
+        int i = 1;
+        for (Standing standing : race.standings()) {
+            printer.printLine(i + ". " + standing.toString());
+            i++;
+        }
+    }
+}
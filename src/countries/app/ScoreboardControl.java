@@ -1,87 +1,111 @@
 package countries.app;
 
-import countries.exeption.DataImportException;
+import countries.history.GameHistory;
 import countries.io.ConsolePrinter;
 import countries.io.DataReader;
+import countries.io.ScoreJournal;
+import countries.metrics.Metrics;
+import countries.metrics.Operation;
+import countries.model.RankIndex;
 import countries.model.Score;
 import countries.model.Scoreboard;
 
-import java.io.*;
-import java.time.Duration;
-import java.time.Instant;
+import java.io.IOException;
 import java.util.List;
 
 public class ScoreboardControl {
+    private final int PAGE_SIZE = 20;
+
     private Scoreboard scoreboard;
+    private ScoreJournal journal;
+    private GameResources resources;
     private ConsolePrinter printer;
     private DataReader dataReader;
 
-    public ScoreboardControl(ConsolePrinter printer, DataReader dataReader) {
+    public ScoreboardControl(ConsolePrinter printer, DataReader dataReader, GameResources resources) {
         this.printer = printer;
         this.dataReader = dataReader;
+        this.resources = resources;
     }
 
     public Scoreboard getScoreboard() {
+        if (scoreboard == null) {
+            scoreboard = resources.getScoreboard();
+            journal = resources.getJournal();
+            resources.reportLoadError(printer);
+        }
         return scoreboard;
     }
 
     public List<Score> getScoreboardList() {
-        return scoreboard.getScoreboardList();
-    }
-
-    public void initializeScoreboardFromDisc() throws DataImportException {
-        try (
-                var fis = new FileInputStream(Scoreboard.SCOREBOARD_FILE_PATH);
-                var ois = new ObjectInputStream(fis);
-            ) {
-            this.scoreboard = (Scoreboard) ois.readObject();
-        } catch (FileNotFoundException e) {
-            throw new DataImportException("File " + Scoreboard.SCOREBOARD_FILE_PATH + " not found.");
-        } catch (IOException e) {
-            throw new DataImportException("Error occurred while trying to read " + Scoreboard.SCOREBOARD_FILE_PATH + ".");
-        } catch (ClassNotFoundException e) {
-            throw new DataImportException("Mismatch data type in file " + Scoreboard.SCOREBOARD_FILE_PATH + ".");
-        }
-    }
-
-    public void initializeNewScoreboard() {
-        scoreboard = new Scoreboard();
+        return getScoreboard().getScoreboardList();
     }
 
     public void saveScoreboard() {
+        Scoreboard scoreboard = getScoreboard();
+        if (journal == null)
+            return;
         boolean closeFlag = true;
         do {
-            try (
-                    var fos = new FileOutputStream(Scoreboard.SCOREBOARD_FILE_PATH);
-                    var oos = new ObjectOutputStream(fos);
-            ) {
-                oos.writeObject(scoreboard);
+            Metrics.Timer timer = Metrics.start(Operation.SCOREBOARD_SAVE);
+            try {
+                journal.compact(scoreboard);
                 closeFlag = false;
-            } catch (FileNotFoundException e) {
-                printer.printErrorLine("File not found, press Y/y to close without saving, or anything else to try again.");
-                String choice = dataReader.getStringCaseInsensitive();
-                if(choice.equals("Y") || choice.equals("y")) closeFlag = false;
             } catch (IOException e) {
                 printer.printErrorLine("Saving scoreboard to file failed, press Y/y to close without saving, or anything else to try again.");
                 String choice = dataReader.getStringCaseInsensitive();
                 if(choice.equals("Y") || choice.equals("y")) closeFlag = false;
+            } finally {
+                timer.stop();
             }
         } while (closeFlag);
     }
 
-    public void addScore(Score score) {
-        scoreboard.addScore(score);
+    public boolean qualifies(Score score) {
+        return getScoreboard().qualifies(score);
     }
 
-    public void replaceLast(Score score) {
-        scoreboard.replaceLast(score);
+    public boolean addScore(Score score) {
+        Scoreboard scoreboard = getScoreboard();
+        if (journal == null)
+            return scoreboard.addScore(score);
+        try {
+            return journal.record(scoreboard, score);
+        } catch (IOException e) {
+            printer.printErrorLine("Couldn't write score to " + ScoreJournal.JOURNAL_FILE_PATH + ".");
+            return true;
+        }
     }
 
     public void printScoreboard() {
         int i = 1;
-        for (Score score : scoreboard.getScoreboardList()) {
+        for (Score score : getScoreboardList()) {
             printer.printLine(i + ". " + score.toString());
             i++;
         }
     }
-}
+
+    public long getRankingPages() {
+        return resources.getRanks().pages(PAGE_SIZE);
+    }
+
+    public void printScoreboard(long page) {
+        RankIndex ranks = resources.getRanks();
+        GameHistory history = resources.getHistory();
+        ranks.forEachOnPage(page, PAGE_SIZE, (rank, score, player) ->
+                printer.printLine(rank + ". " + score + " " + playerName(history, player)));
+    }
+
+    private static String playerName(GameHistory history, int player) {
+        String name = history == null ? null : history.playerName(player);
+        return name == null ? "anonymous" : name;
+    }
+
+    public void printRank(Score score, String player) {
+        RankIndex ranks = resources.getRanks();
+        GameHistory history = resources.getHistory();
+        ranks.add(score.getScore(), history == null ? RankIndex.NO_PLAYER : history.findPlayer(player));
+        printer.printLine(String.format("That is place %d of %d games, better than %.1f%% of them.",
+                ranks.rankOf(score.getScore()), ranks.size(), ranks.percentile(score.getScore())));
+    }
+}
\ No newline at end of file
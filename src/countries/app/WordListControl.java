@@ -0,0 +1,102 @@
+package countries.app;
+
+import countries.dictionary.CountryDictionary;
+import countries.dictionary.WordList;
+import countries.dictionary.WordListImporter;
+import countries.exeption.DataImportException;
+import countries.io.ConsolePrinter;
+import countries.io.DataReader;
+import countries.model.GameState;
+import countries.model.ScoreCalculator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+public class WordListControl {
+    public static final String WORD_LIST_DIRECTORY = System.getProperty("countries.wordlists", "wordlists");
+
+    private final String GIVE_UP = "Q";
+    private final String PRINT_PROGRESS = "P";
+
+    private ConsolePrinter printer;
+    private DataReader dataReader;
+    private WordListImporter importer = new WordListImporter();
+    private WordList wordList = null;
+
+    public WordListControl(ConsolePrinter printer, DataReader dataReader) {
+        this.printer = printer;
+        this.dataReader = dataReader;
+    }
+
+    public void play() {
+        if (!chooseWordList())
+            return;
+        GameState gameState = new GameState();
+        gameState.load(0, wordList.size());
+        printer.printLine("Good luck! Guess all " + wordList.size() + " names from " + wordList.getSource() + ".");
+        printer.printLine("(Q - give up, P - print progress)");
+        long timeStart = System.nanoTime();
+        while (!gameState.isFinished()) {
+            printer.printText("Your guess: ");
+            CharSequence guess = dataReader.getNormalizedLine();
+            if (GIVE_UP.contentEquals(guess))
+                break;
+            if (PRINT_PROGRESS.contentEquals(guess)) {
+                printer.printLine("You guessed " + gameState.getGuessedCount() + " names. " + gameState.getRemainingCount() + " left.");
+                continue;
+            }
+            int id = wordList.indexOf(guess);
+            if (gameState.guess(id))
+                printer.printLine("Correct! " + gameState.getRemainingCount() + " left.");
+            else
+                printer.printLine(id == CountryDictionary.NO_COUNTRY ? "Not on the list." : "Already guessed.");
+        }
+        long time = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - timeStart);
+        printer.printLine("You guessed " + gameState.getGuessedCount() + " of " + wordList.size() + " in " + time
+                + " ms, gives you " + ScoreCalculator.calculate(time, gameState.getGuessedCount()) + " score.");
+    }
+
+    private boolean chooseWordList() {
+        if (wordList != null) {
+            printer.printText("Word list file in " + WORD_LIST_DIRECTORY + " (empty - play " + wordList.getSource() + " again): ");
+        } else {
+            printer.printText("Word list file in " + WORD_LIST_DIRECTORY + " (one name per line, UTF-8): ");
+        }
+        String path = dataReader.getString().strip();
+        if (path.isEmpty())
+            return wordList != null;
+        try {
+            Path file = resolve(path);
+            if (file == null) {
+                printer.printErrorLine("Couldn't import word list from " + path + ".");
+                return false;
+            }
+            long start = System.nanoTime();
+            WordList imported = importer.importFile(file);
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            printer.printLine("Imported " + imported.size() + " unique names in " + millis + " ms.");
+            if (imported.size() == 0) {
+                printer.printLine("The list is empty.");
+                return false;
+            }
+            wordList = imported;
+            return true;
+        } catch (DataImportException | InvalidPathException e) {
+            printer.printErrorLine("Couldn't import word list from " + path + ".");
+            return false;
+        }
+    }
+
+    private static Path resolve(String name) throws InvalidPathException {
+        try {
+            Path directory = Path.of(WORD_LIST_DIRECTORY).toRealPath();
+            Path file = directory.resolve(name).normalize().toRealPath();
+            return file.startsWith(directory) && Files.isRegularFile(file) ? file : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
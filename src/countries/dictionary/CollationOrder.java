@@ -0,0 +1,44 @@
+package countries.dictionary;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Arrays;
+
+public class CollationOrder {
+    private final int[] rankOf;
+    private final int[] idAt;
+
+    public CollationOrder(CountryDictionary dictionary, Language language) {
+        Collator collator = Collator.getInstance(language.getLocale());
+        collator.setStrength(Collator.TERTIARY);
+        int size = dictionary.size();
+        CollationKey[] keys = new CollationKey[size];
+        Integer[] ids = new Integer[size];
+        for (int id = 0; id < size; id++) {
+            keys[id] = collator.getCollationKey(dictionary.name(language, id));
+            ids[id] = id;
+        }
+        Arrays.sort(ids, (a, b) -> {
+            int result = keys[a].compareTo(keys[b]);
+            return result != 0 ? result : Integer.compare(a, b);
+        });
+        rankOf = new int[size];
+        idAt = new int[size];
+        for (int rank = 0; rank < size; rank++) {
+            idAt[rank] = ids[rank];
+            rankOf[ids[rank]] = rank;
+        }
+    }
+
+    public int size() {
+        return idAt.length;
+    }
+
+    public int rankOf(int id) {
+        return rankOf[id];
+    }
+
+    public int idAt(int rank) {
+        return idAt[rank];
+    }
+}
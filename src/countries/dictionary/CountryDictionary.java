@@ -0,0 +1,311 @@
+package countries.dictionary;
+
+import countries.exeption.DataImportException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.CRC32;
+
+public class CountryDictionary {
+    public static final String DICTIONARY_FILE_PATH = "countries.dict";
+    public static final String COUNTRIES_FILE_NAME = "Countries.txt";
+    public static final String COUNTRIES_FILE_PATH = Path.of(Paths.DATA_DIRECTORY, COUNTRIES_FILE_NAME).toString();
+    public static final int NO_COUNTRY = -1;
+
+    static final int MAGIC = 0x4B52414A;
+    static final int VERSION = 2;
+    static final int KEY_BITS = 24;
+    static final int KEY_MASK = (1 << KEY_BITS) - 1;
+
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int[][] members;
+    private final int[] regionMasks;
+    private final int sharedTableSize;
+    private final int sharedTableOffset;
+    private final int[] packOffsets;
+    private final AtomicReferenceArray<Pack> packs = new AtomicReferenceArray<>(Language.values().length);
+    private final FuzzyIndex[] fuzzyIndexes = new FuzzyIndex[Language.values().length];
+    private final PrefixTrie[] prefixTries = new PrefixTrie[Language.values().length];
+    private final CollationOrder[] collationOrders = new CollationOrder[Language.values().length];
+    private final Object[] indexLocks = new Object[Language.values().length];
+    private int fingerprint;
+    private volatile boolean fingerprinted = false;
+
+    private CountryDictionary(ByteBuffer buffer) {
+        this.buffer = buffer;
+        for (int i = 0; i < indexLocks.length; i++)
+            indexLocks[i] = new Object();
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+            throw new DataImportException("Mismatch data type in file " + DICTIONARY_FILE_PATH + ".");
+        if (buffer.getInt(8) != Language.values().length || buffer.getInt(12) != Paths.values().length)
+            throw new DataImportException("File " + DICTIONARY_FILE_PATH + " is out of date.");
+        count = buffer.getInt(16);
+        int offset = buffer.getInt(20);
+        members = new int[Paths.values().length][];
+        for (int region = 0; region < members.length; region++) {
+            int[] regionMembers = new int[buffer.getInt(offset)];
+            offset += Integer.BYTES;
+            for (int i = 0; i < regionMembers.length; i++) {
+                regionMembers[i] = buffer.getInt(offset);
+                offset += Integer.BYTES;
+            }
+            members[region] = regionMembers;
+        }
+        regionMasks = new int[count];
+        for (Paths region : Paths.values()) {
+            for (int id : members[region.ordinal()])
+                regionMasks[id] |= region.mask();
+        }
+        offset = buffer.getInt(24);
+        sharedTableSize = buffer.getInt(offset);
+        sharedTableOffset = offset + Integer.BYTES;
+        packOffsets = new int[Language.values().length];
+        for (int i = 0; i < packOffsets.length; i++)
+            packOffsets[i] = buffer.getInt(28 + i * Integer.BYTES);
+    }
+
+    public static CountryDictionary open() throws DataImportException {
+        Path path = Path.of(DICTIONARY_FILE_PATH);
+        if (isOutdated(path))
+            DictionaryCompiler.compile(path);
+        return open(path);
+    }
+
+    public static CountryDictionary open(Path path) throws DataImportException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new CountryDictionary(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new DataImportException("Error occurred while trying to read " + path + ".");
+        }
+    }
+
+    private static boolean isOutdated(Path path) {
+        try {
+            if (!Files.exists(path))
+                return true;
+            FileTime compiled = Files.getLastModifiedTime(path);
+            Path countries = Path.of(COUNTRIES_FILE_PATH);
+            if (Files.exists(countries) && Files.getLastModifiedTime(countries).compareTo(compiled) > 0)
+                return true;
+            for (Paths region : Paths.values()) {
+                for (Language language : Language.values()) {
+                    Path source = Path.of(region.getPath(language));
+                    if (Files.exists(source) && Files.getLastModifiedTime(source).compareTo(compiled) > 0)
+                        return true;
+                }
+            }
+            return false;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    public static String normalize(String name) {
+        return name.strip().toUpperCase();
+    }
+
+    static int hash(CharSequence key) {
+        int hash = 0;
+        for (int i = 0; i < key.length(); i++)
+            hash = 31 * hash + key.charAt(i);
+        return hash;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int fingerprint() {
+        if (!fingerprinted) {
+            CRC32 crc = new CRC32();
+            for (Language language : Language.values()) {
+                for (int id = 0; id < count; id++) {
+                    crc.update(key(language, id).getBytes(StandardCharsets.UTF_8));
+                    crc.update('\n');
+                }
+            }
+            fingerprint = (int) crc.getValue();
+            fingerprinted = true;
+        }
+        return fingerprint;
+    }
+
+    public int[] members(Paths region) {
+        return members[region.ordinal()];
+    }
+
+    public int regionMask(int id) {
+        return regionMasks[id];
+    }
+
+    public int[] regionMasks() {
+        return regionMasks;
+    }
+
+    public boolean isLoaded(Language language) {
+        return packs.get(language.getValue()) != null;
+    }
+
+    public boolean hasName(Language language, int id) {
+        return pack(language).primaryKey(id) != NO_COUNTRY;
+    }
+
+    public String name(Language language, int id) {
+        Pack pack = pack(language);
+        int key = pack.primaryKey(id);
+        if (key != NO_COUNTRY)
+            return pack.key(key);
+        for (Language other : Language.values()) {
+            if (other != language && hasName(other, id))
+                return name(other, id);
+        }
+        return "";
+    }
+
+    String key(Language language, int id) {
+        Pack pack = pack(language);
+        int key = pack.primaryKey(id);
+        return key == NO_COUNTRY ? "" : pack.key(key);
+    }
+
+    public int indexOf(Language language, CharSequence key) {
+        return pack(language).indexOf(key);
+    }
+
+    public int indexOf(CountryDictionary previous, int id) {
+        for (Language language : Language.values()) {
+            if (!previous.hasName(language, id))
+                continue;
+            int moved = indexOf(language, previous.name(language, id));
+            if (moved != NO_COUNTRY)
+                return moved;
+        }
+        return NO_COUNTRY;
+    }
+
+    public int indexOfAny(CharSequence key) {
+        int mask = sharedTableSize - 1;
+        int slot = hash(key) & mask;
+        int ref;
+        while ((ref = buffer.getInt(sharedTableOffset + slot * Integer.BYTES)) != NO_COUNTRY) {
+            Pack pack = pack(Language.values()[ref >>> KEY_BITS]);
+            int keyIndex = ref & KEY_MASK;
+            if (pack.key(keyIndex).contentEquals(key))
+                return pack.id(keyIndex);
+            slot = (slot + 1) & mask;
+        }
+        return NO_COUNTRY;
+    }
+
+    private Pack pack(Language language) {
+        Pack pack = packs.get(language.getValue());
+        if (pack == null)
+            pack = loadPack(language);
+        return pack;
+    }
+
+    private synchronized Pack loadPack(Language language) {
+        Pack pack = packs.get(language.getValue());
+        if (pack == null) {
+            pack = new Pack(packOffsets[language.getValue()]);
+            packs.set(language.getValue(), pack);
+        }
+        return pack;
+    }
+
+    public FuzzyIndex fuzzyIndex(Language language) {
+        synchronized (indexLocks[language.getValue()]) {
+            FuzzyIndex index = fuzzyIndexes[language.getValue()];
+            if (index == null) {
+                index = new FuzzyIndex(this, language);
+                fuzzyIndexes[language.getValue()] = index;
+            }
+            return index;
+        }
+    }
+
+    public CollationOrder collationOrder(Language language) {
+        synchronized (indexLocks[language.getValue()]) {
+            CollationOrder order = collationOrders[language.getValue()];
+            if (order == null) {
+                order = new CollationOrder(this, language);
+                collationOrders[language.getValue()] = order;
+            }
+            return order;
+        }
+    }
+
+    public PrefixTrie prefixTrie(Language language) {
+        synchronized (indexLocks[language.getValue()]) {
+            PrefixTrie trie = prefixTries[language.getValue()];
+            if (trie == null) {
+                trie = new PrefixTrie(this, language);
+                prefixTries[language.getValue()] = trie;
+            }
+            return trie;
+        }
+    }
+
+    private class Pack {
+        private final int keyCount;
+        private final int tableSize;
+        private final int tableOffset;
+        private final int idsOffset;
+        private final int primaryOffset;
+        private final int keyOffsetsOffset;
+        private final int keysOffset;
+        private final String[] keys;
+
+        Pack(int offset) {
+            keyCount = buffer.getInt(offset);
+            tableSize = buffer.getInt(offset + Integer.BYTES);
+            tableOffset = offset + 2 * Integer.BYTES;
+            idsOffset = tableOffset + tableSize * Integer.BYTES;
+            primaryOffset = idsOffset + keyCount * Integer.BYTES;
+            keyOffsetsOffset = primaryOffset + count * Integer.BYTES;
+            keysOffset = keyOffsetsOffset + (keyCount + 1) * Integer.BYTES;
+            keys = new String[keyCount];
+        }
+
+        int id(int keyIndex) {
+            return buffer.getInt(idsOffset + keyIndex * Integer.BYTES);
+        }
+
+        int primaryKey(int id) {
+            return buffer.getInt(primaryOffset + id * Integer.BYTES);
+        }
+
+        String key(int keyIndex) {
+            String key = keys[keyIndex];
+            if (key == null) {
+                int start = buffer.getInt(keyOffsetsOffset + keyIndex * Integer.BYTES);
+                int end = buffer.getInt(keyOffsetsOffset + (keyIndex + 1) * Integer.BYTES);
+                byte[] bytes = new byte[end - start];
+                buffer.get(keysOffset + start, bytes);
+                key = new String(bytes, StandardCharsets.UTF_8);
+                keys[keyIndex] = key;
+            }
+            return key;
+        }
+
+        int indexOf(CharSequence key) {
+            int mask = tableSize - 1;
+            int slot = hash(key) & mask;
+            int keyIndex;
+            while ((keyIndex = buffer.getInt(tableOffset + slot * Integer.BYTES)) != NO_COUNTRY) {
+                if (key(keyIndex).contentEquals(key))
+                    return id(keyIndex);
+                slot = (slot + 1) & mask;
+            }
+            return NO_COUNTRY;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package countries.dictionary;
+
+import countries.exeption.DataImportException;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+public class DatasetRegistry {
+    private static final long SETTLE_MILLIS = 200;
+
+    private final Path directory;
+    private final Path target;
+    private final BiConsumer<CountryDictionary, CountryDictionary> listener;
+    private final Map<String, List<String>> sources = new HashMap<>();
+    private volatile CountryDictionary current;
+    private volatile List<String> lastChanges = List.of();
+    private volatile String lastError = null;
+    private volatile int failureCount = 0;
+    private WatchService watcher;
+
+    private DatasetRegistry(Path directory, Path target, CountryDictionary dictionary,
+                            BiConsumer<CountryDictionary, CountryDictionary> listener) {
+        this.directory = directory;
+        this.target = target;
+        this.current = dictionary;
+        this.listener = listener;
+        for (String fileName : fileNames())
+            sources.put(fileName, DictionaryCompiler.readLines(directory.resolve(fileName).toString()));
+    }
+
+    public static DatasetRegistry watch(CountryDictionary dictionary,
+                                        BiConsumer<CountryDictionary, CountryDictionary> listener)
+            throws DataImportException {
+        DatasetRegistry registry = new DatasetRegistry(Path.of(Paths.DATA_DIRECTORY),
+                Path.of(CountryDictionary.DICTIONARY_FILE_PATH), dictionary, listener);
+        try {
+            registry.start();
+        } catch (IOException e) {
+            throw new DataImportException("Couldn't watch directory " + Paths.DATA_DIRECTORY + ".");
+        }
+        return registry;
+    }
+
+    static Set<String> fileNames() {
+        Set<String> fileNames = new LinkedHashSet<>();
+        fileNames.add(CountryDictionary.COUNTRIES_FILE_NAME);
+        for (Paths region : Paths.values()) {
+            for (Language language : Language.values())
+                fileNames.add(region.getFileName(language));
+        }
+        return fileNames;
+    }
+
+    public CountryDictionary current() {
+        return current;
+    }
+
+    public List<String> getLastChanges() {
+        return lastChanges;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    private synchronized void fail(String message) {
+        lastError = message;
+        failureCount++;
+    }
+
+    private void start() throws IOException {
+        watcher = directory.getFileSystem().newWatchService();
+        directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        Thread thread = new Thread(this::run, "dataset-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                WatchKey key = watcher.take();
+                Set<String> changed = new HashSet<>();
+                do {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW)
+                            changed.addAll(fileNames());
+                        else if (event.context() instanceof Path)
+                            changed.add(((Path) event.context()).getFileName().toString());
+                    }
+                    key.reset();
+                } while ((key = watcher.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null);
+                try {
+                    reload(changed);
+                } catch (DataImportException e) {
+                    fail("Couldn't reload country data: " + e.getMessage());
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public synchronized boolean reload(Collection<String> fileNames) throws DataImportException {
+        List<String> changes = new ArrayList<>();
+        List<String> unreadable = new ArrayList<>();
+        Map<String, List<String>> updated = new HashMap<>(sources);
+        for (String fileName : fileNames) {
+            List<String> before = sources.get(fileName);
+            if (before == null)
+                continue;
+            List<String> after;
+            try {
+                after = DictionaryCompiler.readLines(directory.resolve(fileName).toString());
+            } catch (DataImportException e) {
+                unreadable.add(fileName);
+                continue;
+            }
+            if (after.equals(before))
+                continue;
+            Set<String> added = new LinkedHashSet<>(after);
+            before.forEach(added::remove);
+            Set<String> removed = new LinkedHashSet<>(before);
+            after.forEach(removed::remove);
+            changes.add(fileName + " +" + added.size() + " -" + removed.size());
+            updated.put(fileName, after);
+        }
+        if (!unreadable.isEmpty())
+            fail("Couldn't read " + String.join(", ", unreadable) + ", the previous version is kept.");
+        if (changes.isEmpty())
+            return false;
+        DictionaryCompiler.compile(target, path -> updated.get(Path.of(path).getFileName().toString()));
+        CountryDictionary dictionary = CountryDictionary.open(target);
+        if (listener != null)
+            listener.accept(current, dictionary);
+        sources.putAll(updated);
+        lastChanges = changes;
+        current = dictionary;
+        return true;
+    }
+
+    public void close() throws IOException {
+        if (watcher != null)
+            watcher.close();
+    }
+}
@@ -0,0 +1,226 @@
+package countries.dictionary;
+
+import countries.exeption.DataImportException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+public class DictionaryCompiler {
+
+    public static void main(String[] args) {
+        Path target = Path.of(args.length > 0 ? args[0] : CountryDictionary.DICTIONARY_FILE_PATH);
+        compile(target);
+        System.out.println("Dictionary compiled to " + target);
+    }
+
+    public static void compile(Path target) throws DataImportException {
+        compile(target, DictionaryCompiler::readLines);
+    }
+
+    static void compile(Path target, Function<String, List<String>> sources) throws DataImportException {
+        int languages = Language.values().length;
+        List<Map<String, Integer>> keys = new ArrayList<>();
+        List<List<String>> primary = new ArrayList<>();
+        for (int i = 0; i < languages; i++) {
+            keys.add(new LinkedHashMap<>());
+            primary.add(new ArrayList<>());
+        }
+        for (String line : sources.apply(CountryDictionary.COUNTRIES_FILE_PATH)) {
+            String[] names = line.split("\\|", -1);
+            int id = primary.get(0).size();
+            for (int i = 0; i < languages; i++)
+                addCountry(keys.get(i), primary.get(i), id, i < names.length ? names[i] : "");
+        }
+
+        int[][] members = new int[Paths.values().length][];
+        for (Paths region : Paths.values()) {
+            Set<Integer> regionMembers = new LinkedHashSet<>();
+            for (Language language : Language.values()) {
+                Map<String, Integer> languageKeys = keys.get(language.getValue());
+                for (String line : sources.apply(region.getPath(language))) {
+                    String key = CountryDictionary.normalize(line);
+                    Integer id = languageKeys.get(key);
+                    if (id == null) {
+                        id = primary.get(0).size();
+                        for (int i = 0; i < languages; i++)
+                            addCountry(keys.get(i), primary.get(i), id, i == language.getValue() ? line : "");
+                    }
+                    regionMembers.add(id);
+                }
+            }
+            members[region.ordinal()] = regionMembers.stream().mapToInt(Integer::intValue).toArray();
+        }
+        int count = primary.get(0).size();
+
+        List<byte[]> packs = new ArrayList<>();
+        for (int i = 0; i < languages; i++)
+            packs.add(compilePack(keys.get(i), primary.get(i), count));
+        byte[] regions = compileRegions(members);
+        byte[] shared = compileSharedTable(keys);
+
+        int headerSize = 7 * Integer.BYTES + languages * Integer.BYTES;
+        int totalSize = headerSize + regions.length + shared.length;
+        for (byte[] pack : packs)
+            totalSize += pack.length;
+
+        ByteBuffer buffer = ByteBuffer.allocate(totalSize);
+        buffer.putInt(CountryDictionary.MAGIC);
+        buffer.putInt(CountryDictionary.VERSION);
+        buffer.putInt(languages);
+        buffer.putInt(Paths.values().length);
+        buffer.putInt(count);
+        int offset = headerSize;
+        buffer.putInt(offset);
+        offset += regions.length;
+        buffer.putInt(offset);
+        offset += shared.length;
+        for (byte[] pack : packs) {
+            buffer.putInt(offset);
+            offset += pack.length;
+        }
+        buffer.put(regions);
+        buffer.put(shared);
+        for (byte[] pack : packs)
+            buffer.put(pack);
+        buffer.flip();
+
+        write(target, buffer);
+    }
+
+    private static void addCountry(Map<String, Integer> keys, List<String> primary, int id, String name) {
+        String key = CountryDictionary.normalize(name);
+        if (key.isEmpty()) {
+            primary.add(null);
+            return;
+        }
+        primary.add(key);
+        keys.putIfAbsent(key, id);
+        for (String variant : key.split("/")) {
+            variant = variant.strip();
+            if (!variant.isEmpty())
+                keys.putIfAbsent(variant, id);
+        }
+    }
+
+    private static byte[] compileRegions(int[][] members) {
+        int size = 0;
+        for (int[] regionMembers : members)
+            size += Integer.BYTES + regionMembers.length * Integer.BYTES;
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (int[] regionMembers : members) {
+            buffer.putInt(regionMembers.length);
+            for (int id : regionMembers)
+                buffer.putInt(id);
+        }
+        return buffer.array();
+    }
+
+    private static byte[] compileSharedTable(List<Map<String, Integer>> keys) {
+        Map<String, Integer> refs = new LinkedHashMap<>();
+        for (int language = 0; language < keys.size(); language++) {
+            int keyIndex = 0;
+            for (String key : keys.get(language).keySet())
+                refs.putIfAbsent(key, language << CountryDictionary.KEY_BITS | keyIndex++);
+        }
+        int[] table = buildTable(refs);
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + table.length * Integer.BYTES);
+        buffer.putInt(table.length);
+        for (int slot : table)
+            buffer.putInt(slot);
+        return buffer.array();
+    }
+
+    private static byte[] compilePack(Map<String, Integer> ids, List<String> primary, int count) {
+        Map<String, Integer> keyIndexes = new LinkedHashMap<>();
+        byte[][] keys = new byte[ids.size()][];
+        int keysSize = 0;
+        for (String key : ids.keySet()) {
+            keys[keyIndexes.size()] = key.getBytes(StandardCharsets.UTF_8);
+            keysSize += keys[keyIndexes.size()].length;
+            keyIndexes.put(key, keyIndexes.size());
+        }
+        int[] table = buildTable(keyIndexes);
+
+        int size = 2 * Integer.BYTES + table.length * Integer.BYTES + keys.length * Integer.BYTES
+                + count * Integer.BYTES + (keys.length + 1) * Integer.BYTES + keysSize;
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(keys.length);
+        buffer.putInt(table.length);
+        for (int slot : table)
+            buffer.putInt(slot);
+        for (int id : ids.values())
+            buffer.putInt(id);
+        for (int id = 0; id < count; id++) {
+            String key = id < primary.size() ? primary.get(id) : null;
+            buffer.putInt(key == null ? CountryDictionary.NO_COUNTRY : keyIndexes.get(key));
+        }
+        int keyOffset = 0;
+        for (byte[] key : keys) {
+            buffer.putInt(keyOffset);
+            keyOffset += key.length;
+        }
+        buffer.putInt(keyOffset);
+        for (byte[] key : keys)
+            buffer.put(key);
+        return buffer.array();
+    }
+
+    private static int[] buildTable(Map<String, Integer> values) {
+        int tableSize = Integer.highestOneBit(Math.max(values.size(), 1)) << 2;
+        int[] table = new int[tableSize];
+        Arrays.fill(table, CountryDictionary.NO_COUNTRY);
+        int mask = tableSize - 1;
+        for (Map.Entry<String, Integer> entry : values.entrySet()) {
+            int slot = CountryDictionary.hash(entry.getKey()) & mask;
+            while (table[slot] != CountryDictionary.NO_COUNTRY)
+                slot = (slot + 1) & mask;
+            table[slot] = entry.getValue();
+        }
+        return table;
+    }
+
+    static List<String> readLines(String path) {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(path), StandardCharsets.UTF_8)) {
+            String nextLine;
+            while ((nextLine = reader.readLine()) != null) {
+                if (!nextLine.isBlank())
+                    lines.add(nextLine);
+            }
+        } catch (IOException e) {
+            throw new DataImportException("Couldn't open file " + path);
+        }
+        return lines;
+    }
+
+    private static void write(Path target, ByteBuffer buffer) {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+        } catch (IOException e) {
+            throw new DataImportException("Error occurred while trying to write " + target + ".");
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new DataImportException("Error occurred while trying to write " + target + ".");
+        }
+    }
+}
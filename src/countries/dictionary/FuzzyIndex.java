@@ -0,0 +1,152 @@
+package countries.dictionary;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+public class FuzzyIndex {
+    private static final char[] FOLD = buildFoldTable();
+
+    private final char[][] keys;
+    private final int[] firstChild;
+    private final int[] nextSibling;
+    private final int[] edge;
+    private final int maxKeyLength;
+
+    public FuzzyIndex(CountryDictionary dictionary, Language language) {
+        int size = dictionary.size();
+        keys = new char[size][];
+        firstChild = new int[size];
+        nextSibling = new int[size];
+        edge = new int[size];
+        int maxLength = 0;
+        char[] buffer = new char[64];
+        for (int id = 0; id < size; id++) {
+            String name = dictionary.key(language, id);
+            if (buffer.length < name.length())
+                buffer = new char[name.length()];
+            int length = fold(name, buffer);
+            keys[id] = Arrays.copyOf(buffer, length);
+            maxLength = Math.max(maxLength, length);
+        }
+        maxKeyLength = maxLength;
+
+        int[] prev = new int[maxLength + 1];
+        int[] cur = new int[maxLength + 1];
+        for (int id = 0; id < size; id++) {
+            firstChild[id] = CountryDictionary.NO_COUNTRY;
+            nextSibling[id] = CountryDictionary.NO_COUNTRY;
+            if (id > 0)
+                insert(id, prev, cur);
+        }
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    int getMaxKeyLength() {
+        return maxKeyLength;
+    }
+
+    private void insert(int id, int[] prev, int[] cur) {
+        int node = 0;
+        while (true) {
+            int distance = distance(keys[id], keys[id].length, keys[node], prev, cur);
+            int child = firstChild[node];
+            while (child != CountryDictionary.NO_COUNTRY && edge[child] != distance)
+                child = nextSibling[child];
+            if (child == CountryDictionary.NO_COUNTRY) {
+                edge[id] = distance;
+                nextSibling[id] = firstChild[node];
+                firstChild[node] = id;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    int search(char[] query, int length, int maxDistance, IntPredicate candidates, int[] stack, int[] prev, int[] cur) {
+        int best = CountryDictionary.NO_COUNTRY;
+        int bestDistance = Integer.MAX_VALUE;
+        boolean ambiguous = false;
+        if (keys.length == 0)
+            return best;
+
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            int distance = distance(query, length, keys[node], prev, cur);
+            if (distance <= maxDistance && candidates.test(node)) {
+                if (distance < bestDistance) {
+                    best = node;
+                    bestDistance = distance;
+                    ambiguous = false;
+                } else if (distance == bestDistance) {
+                    ambiguous = true;
+                }
+            }
+            for (int child = firstChild[node]; child != CountryDictionary.NO_COUNTRY; child = nextSibling[child]) {
+                if (Math.abs(edge[child] - distance) <= maxDistance)
+                    stack[top++] = child;
+            }
+        }
+        return ambiguous ? CountryDictionary.NO_COUNTRY : best;
+    }
+
+    static int distance(char[] a, int aLength, char[] b, int[] prev, int[] cur) {
+        int bLength = b.length;
+        for (int j = 0; j <= bLength; j++)
+            prev[j] = j;
+        for (int i = 1; i <= aLength; i++) {
+            cur[0] = i;
+            char ca = a[i - 1];
+            for (int j = 1; j <= bLength; j++) {
+                int cost = ca == b[j - 1] ? 0 : 1;
+                cur[j] = Math.min(Math.min(cur[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+            }
+            int[] swap = prev;
+            prev = cur;
+            cur = swap;
+        }
+        return prev[bLength];
+    }
+
+    static int fold(CharSequence text, char[] target) {
+        int length = 0;
+        boolean space = true;
+        for (int i = 0; i < text.length() && length < target.length; i++) {
+            char c = FOLD[text.charAt(i)];
+            if (c == ' ') {
+                if (!space)
+                    target[length++] = ' ';
+                space = true;
+            } else {
+                target[length++] = c;
+                space = false;
+            }
+        }
+        if (length > 0 && target[length - 1] == ' ')
+            length--;
+        return length;
+    }
+
+    private static char[] buildFoldTable() {
+        char[] table = new char[Character.MAX_VALUE + 1];
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            char folded = (char) c;
+            if (c >= 0x80 && c < 0x250)
+                folded = Normalizer.normalize(String.valueOf((char) c), Normalizer.Form.NFD).charAt(0);
+            folded = Character.toUpperCase(folded);
+            table[c] = Character.isLetterOrDigit(folded) ? folded : ' ';
+        }
+        table['\u0141'] = 'L';
+        table['\u0142'] = 'L';
+        table['\u0110'] = 'D';
+        table['\u0111'] = 'D';
+        table['\u00D8'] = 'O';
+        table['\u00F8'] = 'O';
+        return table;
+    }
+}
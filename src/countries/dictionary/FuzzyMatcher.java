@@ -0,0 +1,31 @@
+package countries.dictionary;
+
+import java.util.function.IntPredicate;
+
+public class FuzzyMatcher {
+    private final FuzzyIndex index;
+    private final int maxDistance;
+    private final IntPredicate candidates;
+    private final char[] query;
+    private final int[] stack;
+    private final int[] prev;
+    private final int[] cur;
+
+    public FuzzyMatcher(FuzzyIndex index, int maxDistance, IntPredicate candidates) {
+        this.index = index;
+        this.maxDistance = maxDistance;
+        this.candidates = candidates;
+        this.query = new char[index.getMaxKeyLength() + maxDistance + 1];
+        this.stack = new int[Math.max(index.size(), 1)];
+        this.prev = new int[index.getMaxKeyLength() + 1];
+        this.cur = new int[index.getMaxKeyLength() + 1];
+    }
+
+    public int match(CharSequence guess) {
+        int length = FuzzyIndex.fold(guess, query);
+        if (length == 0 || length == query.length)
+            return CountryDictionary.NO_COUNTRY;
+        int distance = Math.min(maxDistance, length / 4);
+        return index.search(query, length, distance, candidates, stack, prev, cur);
+    }
+}
@@ -0,0 +1,41 @@
+package countries.dictionary;
+
+import countries.exeption.NoSuchOptionException;
+
+import java.util.Locale;
+
+public enum Language {
+    POLISH(0, "polski", Locale.forLanguageTag("pl-PL")),
+    ENGLISH(1, "english", Locale.ENGLISH);
+
+    private int value;
+    private String language;
+    private Locale locale;
+
+    Language(int value, String language, Locale locale) {
+        this.value = value;
+        this.language = language;
+        this.locale = locale;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    public static Language createFromInt(int option) {
+        try {
+            return Language.values()[option];
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new NoSuchOptionException("No option with id " + option);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return value + " - " + language;
+    }
+}
@@ -0,0 +1,38 @@
+package countries.dictionary;
+
+import java.nio.file.Path;
+
+public enum Paths {
+    AFRICA("AfricaPL.txt", "AfricaEN.txt"),
+    ASIA("AsiaPL.txt", "AsiaEN.txt"),
+    AUSTRALIA("AustraliaPL.txt", "AustraliaEN.txt"),
+    EUROPE("EuropePL.txt", "EuropeEN.txt"),
+    NORTH_AMERICA("NorthAmericaPL.txt", "NorthAmericaEN.txt"),
+    SOUTH_AMERICA("SouthAmericaPL.txt", "SouthAmericaEN.txt"),
+    ALL_COUNTRIES("AllCountriesPL.txt", "AllCountriesEN.txt"),
+    UNRECOGNIZED_COUNTRIES("UnrecognizedCountriesPL.txt", "UnrecognizedCountriesEN.txt");
+
+    public static final String DATA_DIRECTORY = System.getProperty("countries.data", "src/countries/countries");
+
+    private String[] fileName;
+
+    Paths(String... fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getFileName(Language language) {
+        return fileName[language.getValue()];
+    }
+
+    public String getPath(Language language) {
+        return Path.of(DATA_DIRECTORY, getFileName(language)).toString();
+    }
+
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    public static int allMask() {
+        return (1 << values().length) - 1;
+    }
+}
@@ -0,0 +1,106 @@
+package countries.dictionary;
+
+import java.util.Arrays;
+
+public class PrefixTrie {
+    public static final int NO_NODE = -1;
+
+    private char[] label = new char[64];
+    private int[] parent = new int[64];
+    private int[] firstChild = new int[64];
+    private int[] nextSibling = new int[64];
+    private int[] terminal = new int[64];
+    private int nodeCount = 0;
+    private final int[] nodeOfCountry;
+    private final int[] nextTerminal;
+
+    public PrefixTrie(CountryDictionary dictionary, Language language) {
+        nodeOfCountry = new int[dictionary.size()];
+        nextTerminal = new int[dictionary.size()];
+        int root = newNode('\0', NO_NODE);
+        char[] folded = new char[64];
+        for (int id = 0; id < nodeOfCountry.length; id++) {
+            String name = dictionary.key(language, id);
+            if (name.length() > folded.length)
+                folded = new char[name.length()];
+            int length = FuzzyIndex.fold(name, folded);
+            int node = root;
+            for (int i = 0; i < length; i++) {
+                int child = child(node, folded[i]);
+                if (child == NO_NODE) {
+                    child = newNode(folded[i], node);
+                    nextSibling[child] = firstChild[node];
+                    firstChild[node] = child;
+                }
+                node = child;
+            }
+            nextTerminal[id] = CountryDictionary.NO_COUNTRY;
+            if (node != root) {
+                nextTerminal[id] = terminal[node];
+                terminal[node] = id;
+            }
+            nodeOfCountry[id] = node;
+        }
+    }
+
+    private int newNode(char c, int parentNode) {
+        if (nodeCount == label.length) {
+            int capacity = label.length * 2;
+            label = Arrays.copyOf(label, capacity);
+            parent = Arrays.copyOf(parent, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            terminal = Arrays.copyOf(terminal, capacity);
+        }
+        label[nodeCount] = c;
+        parent[nodeCount] = parentNode;
+        firstChild[nodeCount] = NO_NODE;
+        nextSibling[nodeCount] = NO_NODE;
+        terminal[nodeCount] = CountryDictionary.NO_COUNTRY;
+        return nodeCount++;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public int find(CharSequence prefix) {
+        char[] folded = new char[prefix.length()];
+        int length = FuzzyIndex.fold(prefix, folded);
+        int node = 0;
+        for (int i = 0; i < length && node != NO_NODE; i++)
+            node = child(node, folded[i]);
+        return node;
+    }
+
+    public int child(int node, char c) {
+        int child = firstChild[node];
+        while (child != NO_NODE && label[child] != c)
+            child = nextSibling[child];
+        return child;
+    }
+
+    public int firstChild(int node) {
+        return firstChild[node];
+    }
+
+    public int nextSibling(int node) {
+        return nextSibling[node];
+    }
+
+    public int parent(int node) {
+        return parent[node];
+    }
+
+    public int terminal(int node) {
+        return terminal[node];
+    }
+
+    public int nextTerminal(int id) {
+        return nextTerminal[id];
+    }
+
+    public int nodeOf(int id) {
+        return nodeOfCountry[id];
+    }
+}
@@ -0,0 +1,153 @@
+package countries.dictionary;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class WordList {
+    private final String source;
+    private final byte[] arena;
+    private final int[] offsets;
+    private final int[] hashes;
+    private final int[] table;
+    private final int count;
+
+    private WordList(String source, byte[] arena, int[] offsets, int[] hashes, int[] table, int count) {
+        this.source = source;
+        this.arena = arena;
+        this.offsets = offsets;
+        this.hashes = hashes;
+        this.table = table;
+        this.count = count;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public long getFootprint() {
+        return arena.length + (long) (offsets.length + hashes.length + table.length) * Integer.BYTES;
+    }
+
+    public String name(int id) {
+        return new String(arena, offsets[id], offsets[id + 1] - offsets[id], StandardCharsets.UTF_8);
+    }
+
+    public int indexOf(CharSequence key) {
+        int hash = CountryDictionary.hash(key);
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        int id;
+        while ((id = table[slot]) != CountryDictionary.NO_COUNTRY) {
+            if (hashes[id] == hash && equals(arena, offsets[id], offsets[id + 1], key))
+                return id;
+            slot = (slot + 1) & mask;
+        }
+        return CountryDictionary.NO_COUNTRY;
+    }
+
+    static boolean equals(byte[] bytes, int start, int end, CharSequence key) {
+        int i = 0;
+        int p = start;
+        while (p < end) {
+            int b = bytes[p] & 0xFF;
+            int codePoint;
+            if (b < 0x80) {
+                codePoint = b;
+                p++;
+            } else if (b < 0xE0) {
+                codePoint = (b & 0x1F) << 6 | (bytes[p + 1] & 0x3F);
+                p += 2;
+            } else if (b < 0xF0) {
+                codePoint = (b & 0x0F) << 12 | (bytes[p + 1] & 0x3F) << 6 | (bytes[p + 2] & 0x3F);
+                p += 3;
+            } else {
+                codePoint = (b & 0x07) << 18 | (bytes[p + 1] & 0x3F) << 12 | (bytes[p + 2] & 0x3F) << 6 | (bytes[p + 3] & 0x3F);
+                p += 4;
+            }
+            if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                if (i + 1 >= key.length() || key.charAt(i) != Character.highSurrogate(codePoint)
+                        || key.charAt(i + 1) != Character.lowSurrogate(codePoint))
+                    return false;
+                i += 2;
+            } else {
+                if (i >= key.length() || key.charAt(i) != codePoint)
+                    return false;
+                i++;
+            }
+        }
+        return i == key.length();
+    }
+
+    static class Builder {
+        private final String source;
+        private byte[] arena = new byte[1 << 16];
+        private int arenaLength = 0;
+        private int[] offsets = new int[1025];
+        private int[] hashes = new int[1024];
+        private int[] table = newTable(2048);
+        private int count = 0;
+
+        Builder(String source) {
+            this.source = source;
+        }
+
+        private static int[] newTable(int size) {
+            int[] table = new int[size];
+            Arrays.fill(table, CountryDictionary.NO_COUNTRY);
+            return table;
+        }
+
+        void add(WordListImporter.Segment segment) {
+            for (int i = 0; i < segment.count; i++) {
+                int start = segment.offsets[i];
+                int end = segment.offsets[i + 1];
+                add(segment.bytes, start, end - start, segment.hashes[i]);
+            }
+        }
+
+        private void add(byte[] bytes, int start, int length, int hash) {
+            int mask = table.length - 1;
+            int slot = hash & mask;
+            int id;
+            while ((id = table[slot]) != CountryDictionary.NO_COUNTRY) {
+                if (hashes[id] == hash && Arrays.equals(arena, offsets[id], offsets[id + 1], bytes, start, start + length))
+                    return;
+                slot = (slot + 1) & mask;
+            }
+            if (arenaLength + length > arena.length)
+                arena = Arrays.copyOf(arena, Math.max(arenaLength + length, arena.length * 2));
+            System.arraycopy(bytes, start, arena, arenaLength, length);
+            if (count + 1 == hashes.length) {
+                hashes = Arrays.copyOf(hashes, hashes.length * 2);
+                offsets = Arrays.copyOf(offsets, hashes.length + 1);
+            }
+            offsets[count] = arenaLength;
+            arenaLength += length;
+            offsets[count + 1] = arenaLength;
+            hashes[count] = hash;
+            table[slot] = count++;
+            if (count * 2 > table.length)
+                rehash();
+        }
+
+        private void rehash() {
+            table = newTable(table.length * 2);
+            int mask = table.length - 1;
+            for (int id = 0; id < count; id++) {
+                int slot = hashes[id] & mask;
+                while (table[slot] != CountryDictionary.NO_COUNTRY)
+                    slot = (slot + 1) & mask;
+                table[slot] = id;
+            }
+        }
+
+        WordList build() {
+            return new WordList(source, Arrays.copyOf(arena, arenaLength), Arrays.copyOf(offsets, count + 1),
+                    Arrays.copyOf(hashes, count), table, count);
+        }
+    }
+}
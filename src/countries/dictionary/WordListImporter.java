@@ -0,0 +1,185 @@
+package countries.dictionary;
+
+import countries.exeption.DataImportException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+public class WordListImporter {
+    static final int CHUNK_SIZE = 1 << 22;
+    static final int SPLIT_THRESHOLD = 1 << 18;
+
+    private final ForkJoinPool pool;
+
+    public WordListImporter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public WordListImporter(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public static void main(String[] args) {
+        long start = System.nanoTime();
+        WordList words = new WordListImporter().importFile(Path.of(args[0]));
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Imported " + words.size() + " unique names (" + words.getFootprint() / 1024
+                + " KB) in " + millis + " ms");
+    }
+
+    public WordList importFile(Path path) throws DataImportException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WordList.Builder builder = new WordList.Builder(path.getFileName().toString());
+            Deque<ForkJoinTask<List<Segment>>> pending = new ArrayDeque<>();
+            int window = pool.getParallelism() * 2;
+            ByteBuffer read = ByteBuffer.allocate(CHUNK_SIZE);
+            byte[] carry = new byte[0];
+            while (true) {
+                int n = channel.read(read);
+                if (n >= 0 && read.hasRemaining())
+                    continue;
+                byte[] data = read.array();
+                int length = read.position();
+                int lastNewLine = length - 1;
+                while (lastNewLine >= 0 && data[lastNewLine] != '\n')
+                    lastNewLine--;
+                byte[] chunk = Arrays.copyOf(carry, carry.length + lastNewLine + 1);
+                System.arraycopy(data, 0, chunk, carry.length, lastNewLine + 1);
+                carry = Arrays.copyOfRange(data, lastNewLine + 1, length);
+                read.clear();
+                if (chunk.length > 0)
+                    pending.add(pool.submit(new ChunkTask(chunk, 0, chunk.length)));
+                while (pending.size() >= window)
+                    addAll(builder, pending.removeFirst().join());
+                if (n < 0)
+                    break;
+            }
+            if (carry.length > 0)
+                pending.add(pool.submit(new ChunkTask(carry, 0, carry.length)));
+            while (!pending.isEmpty())
+                addAll(builder, pending.removeFirst().join());
+            return builder.build();
+        } catch (IOException e) {
+            throw new DataImportException("Couldn't open file " + path);
+        }
+    }
+
+    private static void addAll(WordList.Builder builder, List<Segment> segments) {
+        for (Segment segment : segments)
+            builder.add(segment);
+    }
+
+    static class Segment {
+        byte[] bytes;
+        int[] offsets;
+        int[] hashes;
+        int count;
+    }
+
+    private static class ChunkTask extends RecursiveTask<List<Segment>> {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] data;
+        private final int from;
+        private final int to;
+
+        ChunkTask(byte[] data, int from, int to) {
+            this.data = data;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Segment> compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int middle = from + (to - from) / 2;
+                while (middle < to && data[middle - 1] != '\n')
+                    middle++;
+                if (middle < to) {
+                    ChunkTask left = new ChunkTask(data, from, middle);
+                    left.fork();
+                    List<Segment> right = new ChunkTask(data, middle, to).compute();
+                    List<Segment> segments = new ArrayList<>(left.join());
+                    segments.addAll(right);
+                    return segments;
+                }
+            }
+            List<Segment> segments = new ArrayList<>(1);
+            segments.add(normalize());
+            return segments;
+        }
+
+        private Segment normalize() {
+            Segment segment = new Segment();
+            segment.bytes = new byte[to - from];
+            segment.offsets = new int[64];
+            segment.hashes = new int[63];
+            String[] seen = new String[128];
+            int length = 0;
+            int lineStart = from;
+            while (lineStart < to) {
+                int lineEnd = lineStart;
+                while (lineEnd < to && data[lineEnd] != '\n')
+                    lineEnd++;
+                String key = normalize(new String(data, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8));
+                lineStart = lineEnd + 1;
+                if (key.isEmpty())
+                    continue;
+                int hash = key.hashCode();
+                int mask = seen.length - 1;
+                int slot = hash & mask;
+                while (seen[slot] != null && !seen[slot].equals(key))
+                    slot = (slot + 1) & mask;
+                if (seen[slot] != null)
+                    continue;
+                seen[slot] = key;
+                byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+                if (length + bytes.length > segment.bytes.length)
+                    segment.bytes = Arrays.copyOf(segment.bytes, Math.max(length + bytes.length, segment.bytes.length * 2));
+                System.arraycopy(bytes, 0, segment.bytes, length, bytes.length);
+                if (segment.count + 1 == segment.offsets.length) {
+                    segment.offsets = Arrays.copyOf(segment.offsets, segment.offsets.length * 2);
+                    segment.hashes = Arrays.copyOf(segment.hashes, segment.offsets.length - 1);
+                }
+                segment.offsets[segment.count] = length;
+                segment.hashes[segment.count] = hash;
+                length += bytes.length;
+                segment.offsets[++segment.count] = length;
+                if (segment.count * 2 > seen.length)
+                    seen = rehash(seen);
+            }
+            return segment;
+        }
+
+        private static String normalize(String line) {
+            String key = CountryDictionary.normalize(line);
+            return !key.isEmpty() && key.charAt(0) == '\uFEFF' ? CountryDictionary.normalize(key.substring(1)) : key;
+        }
+
+        private static String[] rehash(String[] seen) {
+            String[] larger = new String[seen.length * 2];
+            int mask = larger.length - 1;
+            for (String key : seen) {
+                if (key == null)
+                    continue;
+                int slot = key.hashCode() & mask;
+                while (larger[slot] != null)
+                    slot = (slot + 1) & mask;
+                larger[slot] = key;
+            }
+            return larger;
+        }
+    }
+}
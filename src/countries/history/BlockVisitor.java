@@ -0,0 +1,5 @@
+package countries.history;
+
+public interface BlockVisitor {
+    void visit(HistoryBlock block);
+}
@@ -0,0 +1,40 @@
+package countries.history;
+
+public enum Column {
+    TIME(Long.BYTES),
+    GUESSED(Integer.BYTES),
+    TOTAL(Integer.BYTES),
+    DATASET(Integer.BYTES),
+    PLAYER(Integer.BYTES),
+    LANGUAGE(Byte.BYTES),
+    GIVE_UP(Byte.BYTES);
+
+    static final int ROW_WIDTH = rowWidth();
+
+    private final int width;
+
+    Column(int width) {
+        this.width = width;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    int offset(int blockRows) {
+        int offset = 0;
+        for (Column column : values()) {
+            if (column == this)
+                break;
+            offset += column.width * blockRows;
+        }
+        return offset;
+    }
+
+    private static int rowWidth() {
+        int width = 0;
+        for (Column column : values())
+            width += column.width;
+        return width;
+    }
+}
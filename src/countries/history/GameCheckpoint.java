@@ -0,0 +1,156 @@
+package countries.history;
+
+import countries.exeption.DataImportException;
+import countries.model.GameState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+
+public class GameCheckpoint {
+    public static final String CHECKPOINT_FILE_PATH = "checkpoint.bin";
+
+    static final int MAGIC = 0x4B434B50;
+    static final int VERSION = 3;
+    static final int HEADER_SIZE = 44;
+    private static final int STATE_OFFSET = 8;
+    private static final int PROGRESS_OFFSET = 24;
+    private static final int WORDS_OFFSET = 36;
+    private static final int FINGERPRINT_OFFSET = 40;
+    private static final int EMPTY = 0;
+    private static final int IN_PROGRESS = 1;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ByteBuffer word = ByteBuffer.allocateDirect(Long.BYTES);
+    private final ByteBuffer time = ByteBuffer.allocateDirect(Long.BYTES);
+    private final ByteBuffer progress = ByteBuffer.allocateDirect(Long.BYTES + Integer.BYTES);
+    private final ByteBuffer state = ByteBuffer.allocateDirect(Integer.BYTES);
+    private long[] guessed = new long[0];
+    private long guessedOffset = HEADER_SIZE;
+    private long timesOffset = HEADER_SIZE;
+    private int guessedCount = 0;
+
+    private GameCheckpoint(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    public static GameCheckpoint open() throws DataImportException {
+        return open(Path.of(CHECKPOINT_FILE_PATH));
+    }
+
+    public static GameCheckpoint open(Path path) throws DataImportException {
+        try {
+            return new GameCheckpoint(path);
+        } catch (IOException e) {
+            throw new DataImportException("Error occurred while trying to open " + path + ".");
+        }
+    }
+
+    public synchronized void start(GameState gameState, int countries, int fingerprint, int language, int dataset,
+                                   SavedGame resumed) throws IOException {
+        long elapsed = resumed == null ? 0 : resumed.getElapsed();
+        int words = (countries + Long.SIZE - 1) / Long.SIZE;
+        long[] loaded = new long[words];
+        guessed = new long[words];
+        for (int id = gameState.nextLoaded(0); id >= 0 && id < countries; id = gameState.nextLoaded(id + 1)) {
+            loaded[id >>> 6] |= 1L << id;
+            if (gameState.isGuessed(id))
+                guessed[id >>> 6] |= 1L << id;
+        }
+        guessedOffset = HEADER_SIZE + (long) words * Long.BYTES;
+        timesOffset = guessedOffset + (long) words * Long.BYTES;
+        guessedCount = gameState.getGuessedCount();
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + 2 * words * Long.BYTES + countries * Long.BYTES);
+        record.putInt(MAGIC).putInt(VERSION).putInt(EMPTY).putInt(language).putInt(dataset).putInt(countries)
+                .putLong(elapsed).putInt(guessedCount).putInt(words).putInt(fingerprint);
+        for (long bits : loaded)
+            record.putLong(bits);
+        for (long bits : guessed)
+            record.putLong(bits);
+        for (int id = 0; id < countries; id++)
+            record.putLong(resumed == null ? 0 : resumed.getGuessElapsed(id));
+        record.flip();
+        write(record, 0);
+        if (channel.size() > record.capacity())
+            channel.truncate(record.capacity());
+        writeState(IN_PROGRESS);
+    }
+
+    public synchronized void recordGuess(int id, long elapsed) throws IOException {
+        int index = id >>> 6;
+        if (index >= guessed.length)
+            return;
+        guessed[index] |= 1L << id;
+        word.clear();
+        word.putLong(guessed[index]).flip();
+        write(word, guessedOffset + (long) index * Long.BYTES);
+        time.clear();
+        time.putLong(elapsed).flip();
+        write(time, timesOffset + (long) id * Long.BYTES);
+        progress.clear();
+        progress.putLong(elapsed).putInt(++guessedCount).flip();
+        write(progress, PROGRESS_OFFSET);
+    }
+
+    public synchronized void clear() throws IOException {
+        guessed = new long[0];
+        writeState(EMPTY);
+    }
+
+    public synchronized SavedGame read() throws IOException {
+        if (channel.size() < HEADER_SIZE)
+            return null;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        read(header, 0);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION || header.getInt(STATE_OFFSET) != IN_PROGRESS)
+            return null;
+        int countries = header.getInt(20);
+        int words = header.getInt(WORDS_OFFSET);
+        if (words < 0 || countries < 0 || channel.size() < HEADER_SIZE + 2L * words * Long.BYTES + (long) countries * Long.BYTES)
+            return null;
+        ByteBuffer bitmaps = ByteBuffer.allocate(2 * words * Long.BYTES + countries * Long.BYTES);
+        read(bitmaps, HEADER_SIZE);
+        long[] loaded = new long[words];
+        long[] guessed = new long[words];
+        for (int i = 0; i < words; i++)
+            loaded[i] = bitmaps.getLong(i * Long.BYTES);
+        for (int i = 0; i < words; i++)
+            guessed[i] = bitmaps.getLong((words + i) * Long.BYTES);
+        long[] times = new long[countries];
+        for (int id = 0; id < countries; id++)
+            times[id] = bitmaps.getLong((2 * words + id) * Long.BYTES);
+        return new SavedGame(header.getInt(12), header.getInt(16), countries, header.getInt(FINGERPRINT_OFFSET),
+                header.getLong(PROGRESS_OFFSET), BitSet.valueOf(loaded), BitSet.valueOf(guessed), times);
+    }
+
+    private void writeState(int value) throws IOException {
+        state.clear();
+        state.putInt(value).flip();
+        write(state, STATE_OFFSET);
+    }
+
+    private void write(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining())
+            position += channel.write(buffer, position);
+    }
+
+    private void read(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0)
+                throw new IOException("Unexpected end of " + path);
+            position += read;
+        }
+    }
+
+    public synchronized void close() throws IOException {
+        channel.force(false);
+        channel.close();
+    }
+}
@@ -0,0 +1,178 @@
+package countries.history;
+
+import countries.exeption.DataImportException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class GameHistory {
+    public static final String HISTORY_FILE_PATH = "history.bin";
+    public static final String PLAYERS_FILE_PATH = "history.players";
+    public static final int ANONYMOUS = -1;
+
+    static final int MAGIC = 0x4B484953;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int BLOCK_ROWS = 4096;
+    static final long BLOCK_SIZE = (long) Column.ROW_WIDTH * BLOCK_ROWS;
+    private static final int ROW_COUNT_OFFSET = 12;
+
+    private final Path historyPath;
+    private final FileChannel history;
+    private final FileChannel players;
+    private final Map<String, Integer> playerIds = new HashMap<>();
+    private final List<String> playerNames = new ArrayList<>();
+    private final ByteBuffer cell = ByteBuffer.allocate(Long.BYTES);
+    private volatile long rowCount;
+
+    private GameHistory(Path historyPath, Path playersPath) throws IOException {
+        this.historyPath = historyPath;
+        this.history = FileChannel.open(historyPath, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.players = FileChannel.open(playersPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        readHeader();
+        readPlayers(playersPath);
+    }
+
+    public static GameHistory open() throws DataImportException {
+        return open(Path.of(HISTORY_FILE_PATH), Path.of(PLAYERS_FILE_PATH));
+    }
+
+    public static GameHistory open(Path historyPath, Path playersPath) throws DataImportException {
+        try {
+            return new GameHistory(historyPath, playersPath);
+        } catch (IOException e) {
+            throw new DataImportException("Error occurred while trying to open " + historyPath + ".");
+        }
+    }
+
+    private void readHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        if (history.size() == 0) {
+            header.putInt(MAGIC).putInt(VERSION).putInt(BLOCK_ROWS).putLong(0).clear();
+            history.write(header, 0);
+            rowCount = 0;
+            return;
+        }
+        history.read(header, 0);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION || header.getInt(8) != BLOCK_ROWS)
+            throw new DataImportException("Mismatch data type in file " + historyPath + ".");
+        rowCount = header.getLong(ROW_COUNT_OFFSET);
+    }
+
+    private void readPlayers(Path playersPath) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(playersPath, StandardCharsets.UTF_8)) {
+            String nextLine;
+            while ((nextLine = reader.readLine()) != null) {
+                playerIds.putIfAbsent(nextLine, playerNames.size());
+                playerNames.add(nextLine);
+            }
+        }
+    }
+
+    public long size() {
+        return rowCount;
+    }
+
+    public synchronized String playerName(int id) {
+        return id >= 0 && id < playerNames.size() ? playerNames.get(id) : null;
+    }
+
+    public synchronized int playerCount() {
+        return playerNames.size();
+    }
+
+    public synchronized int findPlayer(String name) {
+        if (name == null || name.isBlank())
+            return ANONYMOUS;
+        Integer id = playerIds.get(normalize(name));
+        return id == null ? ANONYMOUS : id;
+    }
+
+    private static String normalize(String name) {
+        return name.strip().replace('\n', ' ').replace('\r', ' ');
+    }
+
+    private int playerId(String name) throws IOException {
+        if (name == null || name.isBlank())
+            return ANONYMOUS;
+        String player = normalize(name);
+        Integer id = playerIds.get(player);
+        if (id == null) {
+            id = playerNames.size();
+            ByteBuffer line = ByteBuffer.wrap((player + "\n").getBytes(StandardCharsets.UTF_8));
+            while (line.hasRemaining())
+                players.write(line);
+            playerIds.put(player, id);
+            playerNames.add(player);
+        }
+        return id;
+    }
+
+    public synchronized void append(GameRecord record) throws IOException {
+        long row = rowCount;
+        long block = HEADER_SIZE + row / BLOCK_ROWS * BLOCK_SIZE;
+        int index = (int) (row % BLOCK_ROWS);
+        write(block, Column.TIME, index, cell.clear().putLong(record.getTime()));
+        write(block, Column.GUESSED, index, cell.clear().putInt(record.getGuessed()));
+        write(block, Column.TOTAL, index, cell.clear().putInt(record.getTotal()));
+        write(block, Column.DATASET, index, cell.clear().putInt(record.getDataset()));
+        write(block, Column.PLAYER, index, cell.clear().putInt(playerId(record.getPlayer())));
+        write(block, Column.LANGUAGE, index, cell.clear().put((byte) record.getLanguage()));
+        write(block, Column.GIVE_UP, index, cell.clear().put((byte) (record.isGiveUp() ? 1 : 0)));
+        history.write(cell.clear().putLong(row + 1).flip(), ROW_COUNT_OFFSET);
+        rowCount = row + 1;
+    }
+
+    private void write(long block, Column column, int index, ByteBuffer value) throws IOException {
+        value.flip();
+        long position = block + column.offset(BLOCK_ROWS) + (long) index * column.getWidth();
+        while (value.hasRemaining())
+            position += history.write(value, position);
+    }
+
+    public void scan(EnumSet<Column> columns, BlockVisitor visitor) throws IOException {
+        long rows = rowCount;
+        HistoryBlock block = new HistoryBlock(columns, BLOCK_ROWS);
+        for (long first = 0; first < rows; first += BLOCK_ROWS) {
+            int count = (int) Math.min(BLOCK_ROWS, rows - first);
+            long start = HEADER_SIZE + first / BLOCK_ROWS * BLOCK_SIZE;
+            for (Map.Entry<Column, ByteBuffer> entry : block.columns()) {
+                ByteBuffer buffer = entry.getValue();
+                buffer.clear().limit(count * entry.getKey().getWidth());
+                long position = start + entry.getKey().offset(BLOCK_ROWS);
+                while (buffer.hasRemaining()) {
+                    int read = history.read(buffer, position);
+                    if (read < 0)
+                        throw new IOException("Unexpected end of " + historyPath);
+                    position += read;
+                }
+            }
+            block.setRows(count);
+            visitor.visit(block);
+        }
+    }
+
+    public synchronized void sync() throws IOException {
+        history.force(false);
+        players.force(false);
+    }
+
+    public synchronized void close() throws IOException {
+        sync();
+        history.close();
+        players.close();
+    }
+}
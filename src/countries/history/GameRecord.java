@@ -0,0 +1,49 @@
+package countries.history;
+
+public class GameRecord {
+    private final long time;
+    private final int guessed;
+    private final int total;
+    private final int dataset;
+    private final int language;
+    private final String player;
+    private final boolean giveUp;
+
+    public GameRecord(long time, int guessed, int total, int dataset, int language, String player, boolean giveUp) {
+        this.time = time;
+        this.guessed = guessed;
+        this.total = total;
+        this.dataset = dataset;
+        this.language = language;
+        this.player = player;
+        this.giveUp = giveUp;
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    public int getGuessed() {
+        return guessed;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getDataset() {
+        return dataset;
+    }
+
+    public int getLanguage() {
+        return language;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public boolean isGiveUp() {
+        return giveUp;
+    }
+}
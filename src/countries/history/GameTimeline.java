@@ -0,0 +1,67 @@
+package countries.history;
+
+import countries.model.GameState;
+
+import java.util.Arrays;
+
+public class GameTimeline {
+    static final int MISS = 0;
+    static final int END = 1;
+    static final int COUNTRY_BASE = 2;
+    static final int FINGERPRINTED = 0x7F;
+
+    private byte[] buffer = new byte[1024];
+    private int length = 0;
+    private long last;
+
+    public void start(GameState gameState, int fingerprint, int language, int dataset, long now) {
+        length = 0;
+        last = now;
+        writeVarint(FINGERPRINTED);
+        writeVarint(fingerprint & 0xFFFFFFFFL);
+        writeVarint(language);
+        writeVarint(dataset);
+        writeVarint(gameState.getLoadedCount());
+        int previous = 0;
+        for (int id = gameState.nextLoaded(0); id >= 0; id = gameState.nextLoaded(id + 1)) {
+            writeVarint(id - previous);
+            previous = id;
+        }
+    }
+
+    public void recordGuess(int id, long now) {
+        record(COUNTRY_BASE + id, now);
+    }
+
+    public void recordMiss(long now) {
+        record(MISS, now);
+    }
+
+    public void end(long now) {
+        record(END, now);
+    }
+
+    private void record(int event, long now) {
+        writeVarint(now - last);
+        writeVarint(event);
+        last = now;
+    }
+
+    private void writeVarint(long value) {
+        if (length + 10 > buffer.length)
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        while ((value & ~0x7FL) != 0) {
+            buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[length++] = (byte) value;
+    }
+
+    byte[] getBuffer() {
+        return buffer;
+    }
+
+    int getLength() {
+        return length;
+    }
+}
@@ -0,0 +1,59 @@
+package countries.history;
+
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class HistoryBlock {
+    private final Map<Column, ByteBuffer> columns = new EnumMap<>(Column.class);
+    private int rows;
+
+    HistoryBlock(Iterable<Column> selected, int blockRows) {
+        for (Column column : selected)
+            columns.put(column, ByteBuffer.allocateDirect(column.getWidth() * blockRows));
+    }
+
+    ByteBuffer column(Column column) {
+        return columns.get(column);
+    }
+
+    Iterable<Map.Entry<Column, ByteBuffer>> columns() {
+        return columns.entrySet();
+    }
+
+    void setRows(int rows) {
+        this.rows = rows;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public long getTime(int row) {
+        return columns.get(Column.TIME).getLong(row * Long.BYTES);
+    }
+
+    public int getGuessed(int row) {
+        return columns.get(Column.GUESSED).getInt(row * Integer.BYTES);
+    }
+
+    public int getTotal(int row) {
+        return columns.get(Column.TOTAL).getInt(row * Integer.BYTES);
+    }
+
+    public int getDataset(int row) {
+        return columns.get(Column.DATASET).getInt(row * Integer.BYTES);
+    }
+
+    public int getPlayer(int row) {
+        return columns.get(Column.PLAYER).getInt(row * Integer.BYTES);
+    }
+
+    public int getLanguage(int row) {
+        return columns.get(Column.LANGUAGE).get(row);
+    }
+
+    public boolean isGiveUp(int row) {
+        return columns.get(Column.GIVE_UP).get(row) != 0;
+    }
+}
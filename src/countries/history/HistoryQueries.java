@@ -0,0 +1,81 @@
+package countries.history;
+
+import countries.model.RankIndex;
+import countries.model.ScoreCalculator;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class HistoryQueries {
+
+    private HistoryQueries() {
+    }
+
+    public static Map<String, Double> averageScoreByPlayer(GameHistory history) throws IOException {
+        int players = history.playerCount();
+        double[] sums = new double[players];
+        long[] counts = new long[players];
+        history.scan(EnumSet.of(Column.TIME, Column.GUESSED, Column.PLAYER), block -> {
+            for (int row = 0; row < block.getRows(); row++) {
+                int player = block.getPlayer(row);
+                if (player < 0 || player >= players || block.getGuessed(row) == 0)
+                    continue;
+                sums[player] += ScoreCalculator.calculate(block.getTime(row), block.getGuessed(row));
+                counts[player]++;
+            }
+        });
+        Map<String, Double> averages = new LinkedHashMap<>();
+        for (int player = 0; player < players; player++) {
+            if (counts[player] > 0)
+                averages.put(history.playerName(player), sums[player] / counts[player]);
+        }
+        return averages;
+    }
+
+    public static Map<Integer, Long> bestTimeByDataset(GameHistory history) throws IOException {
+        Map<Integer, Long> best = new TreeMap<>();
+        history.scan(EnumSet.of(Column.TIME, Column.GUESSED, Column.TOTAL, Column.DATASET, Column.GIVE_UP), block -> {
+            for (int row = 0; row < block.getRows(); row++) {
+                if (block.isGiveUp(row) || block.getGuessed(row) != block.getTotal(row))
+                    continue;
+                best.merge(block.getDataset(row), block.getTime(row), Math::min);
+            }
+        });
+        return best;
+    }
+
+    public static long[] scoreDistribution(GameHistory history, double bucketWidth, int buckets) throws IOException {
+        long[] distribution = new long[buckets];
+        history.scan(EnumSet.of(Column.TIME, Column.GUESSED), block -> {
+            for (int row = 0; row < block.getRows(); row++) {
+                double score = ScoreCalculator.calculate(block.getTime(row), block.getGuessed(row));
+                int bucket = (int) Math.min(buckets - 1, Math.max(0, score / bucketWidth));
+                distribution[bucket]++;
+            }
+        });
+        return distribution;
+    }
+
+    public static RankIndex rankIndex(GameHistory history) throws IOException {
+        RankIndex ranks = new RankIndex();
+        history.scan(EnumSet.of(Column.TIME, Column.GUESSED, Column.PLAYER), block -> {
+            for (int row = 0; row < block.getRows(); row++) {
+                if (block.getGuessed(row) > 0)
+                    ranks.add(ScoreCalculator.calculate(block.getTime(row), block.getGuessed(row)), block.getPlayer(row));
+            }
+        });
+        return ranks;
+    }
+
+    public static long[] giveUpCounts(GameHistory history) throws IOException {
+        long[] counts = new long[2];
+        history.scan(EnumSet.of(Column.GIVE_UP), block -> {
+            for (int row = 0; row < block.getRows(); row++)
+                counts[block.isGiveUp(row) ? 1 : 0]++;
+        });
+        return counts;
+    }
+}
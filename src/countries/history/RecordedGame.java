@@ -0,0 +1,126 @@
+package countries.history;
+
+import countries.dictionary.CountryDictionary;
+import countries.model.GameState;
+import countries.model.Score;
+import countries.model.ScoreCalculator;
+import countries.stats.CountryStatistics;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+public class RecordedGame {
+    private final boolean fingerprinted;
+    private final int fingerprint;
+    private final int language;
+    private final int dataset;
+    private final int[] loaded;
+    private long[] elapsed = new long[64];
+    private int[] countries = new int[64];
+    private int eventCount = 0;
+    private long totalNanos = 0;
+
+    RecordedGame(ByteBuffer payload) {
+        int first = (int) readVarint(payload);
+        fingerprinted = first == GameTimeline.FINGERPRINTED;
+        fingerprint = fingerprinted ? (int) readVarint(payload) : 0;
+        language = fingerprinted ? (int) readVarint(payload) : first;
+        dataset = (int) readVarint(payload);
+        long loadedCount = readVarint(payload);
+        if (loadedCount > payload.remaining())
+            throw new BufferUnderflowException();
+        loaded = new int[(int) loadedCount];
+        int previous = 0;
+        for (int i = 0; i < loaded.length; i++) {
+            previous += (int) readVarint(payload);
+            loaded[i] = previous;
+        }
+        while (payload.hasRemaining()) {
+            totalNanos += readVarint(payload);
+            int event = (int) readVarint(payload);
+            if (event == GameTimeline.END)
+                break;
+            if (eventCount == elapsed.length) {
+                elapsed = Arrays.copyOf(elapsed, eventCount * 2);
+                countries = Arrays.copyOf(countries, eventCount * 2);
+            }
+            elapsed[eventCount] = totalNanos;
+            countries[eventCount] = event == GameTimeline.MISS ? CountryDictionary.NO_COUNTRY : event - GameTimeline.COUNTRY_BASE;
+            eventCount++;
+        }
+    }
+
+    private static long readVarint(ByteBuffer payload) {
+        long value = 0;
+        int shift = 0;
+        byte next;
+        do {
+            next = payload.get();
+            value |= (long) (next & 0x7F) << shift;
+            shift += 7;
+        } while ((next & 0x80) != 0);
+        return value;
+    }
+
+    public boolean fitsIn(int size) {
+        for (int id : loaded) {
+            if (id < 0 || id >= size)
+                return false;
+        }
+        for (int event = 0; event < eventCount; event++) {
+            if (countries[event] != CountryDictionary.NO_COUNTRY && (countries[event] < 0 || countries[event] >= size))
+                return false;
+        }
+        return true;
+    }
+
+    public boolean isRecordedWith(int dictionaryFingerprint) {
+        return fingerprinted && fingerprint == dictionaryFingerprint;
+    }
+
+    public int getLanguage() {
+        return language;
+    }
+
+    public int getDataset() {
+        return dataset;
+    }
+
+    public int getLoadedCount() {
+        return loaded.length;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public long getElapsed(int event) {
+        return elapsed[event];
+    }
+
+    public int getCountry(int event) {
+        return countries[event];
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public Score replay(CountryStatistics statistics) {
+        GameState gameState = new GameState();
+        gameState.load(loaded);
+        for (int event = 0; event < eventCount; event++) {
+            int id = countries[event];
+            if (gameState.guess(id))
+                statistics.recordGuess(id, gameState.getGuessedCount());
+        }
+        if (!gameState.isFinished()) {
+            for (int id = gameState.nextRemaining(0); id >= 0; id = gameState.nextRemaining(id + 1))
+                statistics.recordMiss(id);
+        }
+        long time = TimeUnit.NANOSECONDS.toMillis(totalNanos);
+        return new Score(time, null, ScoreCalculator.calculate(time, gameState.getGuessedCount()));
+    }
+}
@@ -0,0 +1,76 @@
+package countries.history;
+
+import countries.model.GameState;
+
+import java.util.BitSet;
+import java.util.Comparator;
+
+public class SavedGame {
+    private final int language;
+    private final int dataset;
+    private final int countries;
+    private final int fingerprint;
+    private final long elapsed;
+    private final BitSet loaded;
+    private final BitSet guessed;
+    private final long[] times;
+
+    SavedGame(int language, int dataset, int countries, int fingerprint, long elapsed, BitSet loaded, BitSet guessed,
+              long[] times) {
+        this.language = language;
+        this.dataset = dataset;
+        this.countries = countries;
+        this.fingerprint = fingerprint;
+        this.elapsed = elapsed;
+        this.loaded = loaded;
+        this.guessed = guessed;
+        this.times = times;
+    }
+
+    public int getLanguage() {
+        return language;
+    }
+
+    public int getDataset() {
+        return dataset;
+    }
+
+    public int getCountries() {
+        return countries;
+    }
+
+    public int getFingerprint() {
+        return fingerprint;
+    }
+
+    public long getElapsed() {
+        return elapsed;
+    }
+
+    public int getLoadedCount() {
+        return loaded.cardinality();
+    }
+
+    public int getGuessedCount() {
+        return guessed.cardinality();
+    }
+
+    long getGuessElapsed(int id) {
+        return guessed.get(id) && id < times.length ? times[id] : 0;
+    }
+
+    public void restore(GameTimeline timeline, long timeStart) {
+        int[] ids = guessed.stream().boxed()
+                .sorted(Comparator.comparingLong(this::getGuessElapsed))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        for (int id : ids)
+            timeline.recordGuess(id, timeStart + getGuessElapsed(id));
+    }
+
+    public void restore(GameState gameState) {
+        gameState.load(loaded.stream().toArray());
+        for (int id = guessed.nextSetBit(0); id >= 0; id = guessed.nextSetBit(id + 1))
+            gameState.guess(id);
+    }
+}
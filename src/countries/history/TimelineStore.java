@@ -0,0 +1,128 @@
+package countries.history;
+
+import countries.exeption.DataImportException;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+public class TimelineStore {
+    public static final String TIMELINE_FILE_PATH = "timelines.bin";
+
+    private static final int MAX_RECORD_SIZE = 1 << 24;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final CRC32 crc = new CRC32();
+    private final ByteBuffer frame = ByteBuffer.allocate(Integer.BYTES);
+    private long[] offsets = new long[64];
+    private int count = 0;
+    private long end = 0;
+
+    private TimelineStore(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        index();
+    }
+
+    public static TimelineStore open() throws DataImportException {
+        return open(Path.of(TIMELINE_FILE_PATH));
+    }
+
+    public static TimelineStore open(Path path) throws DataImportException {
+        try {
+            return new TimelineStore(path);
+        } catch (IOException e) {
+            throw new DataImportException("Error occurred while trying to open " + path + ".");
+        }
+    }
+
+    private void index() throws IOException {
+        long size = channel.size();
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        while (end + Integer.BYTES <= size) {
+            length.clear();
+            channel.read(length, end);
+            int payload = length.getInt(0);
+            if (payload <= 0 || payload > MAX_RECORD_SIZE || end + 2L * Integer.BYTES + payload > size)
+                break;
+            addOffset(end);
+            end += 2L * Integer.BYTES + payload;
+        }
+        channel.truncate(end);
+    }
+
+    private void addOffset(long offset) {
+        if (count == offsets.length)
+            offsets = Arrays.copyOf(offsets, count * 2);
+        offsets[count++] = offset;
+    }
+
+    public synchronized int size() {
+        return count;
+    }
+
+    public synchronized int append(GameTimeline timeline) throws IOException {
+        int length = timeline.getLength();
+        crc.reset();
+        crc.update(timeline.getBuffer(), 0, length);
+        long position = end;
+        position += writeInt(length, position);
+        ByteBuffer payload = ByteBuffer.wrap(timeline.getBuffer(), 0, length);
+        while (payload.hasRemaining())
+            position += channel.write(payload, position);
+        position += writeInt((int) crc.getValue(), position);
+        addOffset(end);
+        end = position;
+        return count;
+    }
+
+    private int writeInt(int value, long position) throws IOException {
+        frame.clear();
+        frame.putInt(value).flip();
+        int written = 0;
+        while (frame.hasRemaining())
+            written += channel.write(frame, position + written);
+        return written;
+    }
+
+    public synchronized RecordedGame read(int number) throws IOException {
+        if (number < 1 || number > count)
+            throw new IllegalArgumentException("No recorded game " + number);
+        long offset = offsets[number - 1];
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        channel.read(length, offset);
+        ByteBuffer record = ByteBuffer.allocate(length.getInt(0) + Integer.BYTES);
+        while (record.hasRemaining()) {
+            if (channel.read(record, offset + Integer.BYTES + record.position()) < 0)
+                throw new IOException("Unexpected end of " + path);
+        }
+        record.flip();
+        int payloadLength = record.limit() - Integer.BYTES;
+        crc.reset();
+        crc.update(record.array(), 0, payloadLength);
+        if (record.getInt(payloadLength) != (int) crc.getValue())
+            throw new DataImportException("Recorded game " + number + " in " + path + " is damaged.");
+        record.limit(payloadLength);
+        try {
+            return new RecordedGame(record);
+        } catch (BufferUnderflowException e) {
+            throw new DataImportException("Recorded game " + number + " in " + path + " is damaged.");
+        }
+    }
+
+    public synchronized void sync() throws IOException {
+        channel.force(false);
+    }
+
+    public synchronized void close() throws IOException {
+        sync();
+        channel.close();
+    }
+}
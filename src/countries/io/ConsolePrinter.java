@@ -1,20 +1,91 @@
 package countries.io;
 
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
 public class ConsolePrinter {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final OutputStream out;
+    private final OutputStream err;
+    private final CharsetEncoder encoder;
+    private final StringBuilder frame = new StringBuilder(1024);
+    private char[] chars = new char[1024];
+    private CharBuffer charBuffer = CharBuffer.wrap(chars);
+    private ByteBuffer bytes = ByteBuffer.allocate(4096);
+
+    public ConsolePrinter() {
+        this(new FileOutputStream(FileDescriptor.out), new FileOutputStream(FileDescriptor.err), Charset.defaultCharset());
+    }
+
+    public ConsolePrinter(OutputStream out, OutputStream err, Charset charset) {
+        this.out = out;
+        this.err = err;
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
 
     public void printLine() {
-        System.out.println();
+        frame.append(LINE_SEPARATOR);
     }
 
     public void printLine(String line) {
-        System.out.println(line);
+        frame.append(line).append(LINE_SEPARATOR);
     }
 
     public void printErrorLine(String line) {
-        System.err.println(line);
+        flush();
+        frame.append(line).append(LINE_SEPARATOR);
+        write(err);
     }
 
     public void printText(String text) {
-        System.out.print(text);
+        frame.append(text);
+    }
+
+    public void flush() {
+        if (frame.length() > 0)
+            write(out);
+    }
+
+    private void write(OutputStream stream) {
+        int length = frame.length();
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+            charBuffer = CharBuffer.wrap(chars);
+        }
+        frame.getChars(0, length, chars, 0);
+        frame.setLength(0);
+        charBuffer.clear().limit(length);
+
+        encoder.reset();
+        bytes.clear();
+        while (encoder.encode(charBuffer, bytes, true).isOverflow())
+            growBytes();
+        while (encoder.flush(bytes).isOverflow())
+            growBytes();
+
+        try {
+            stream.write(bytes.array(), 0, bytes.position());
+            stream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void growBytes() {
+        ByteBuffer larger = ByteBuffer.allocate(bytes.capacity() * 2);
+        bytes.flip();
+        larger.put(bytes);
+        bytes = larger;
     }
-}
\ No newline at end of file
+}
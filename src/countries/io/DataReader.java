@@ -1,32 +1,187 @@
 package countries.io;
 
-import java.util.Scanner;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
 
 public class DataReader {
-    private Scanner sc = new Scanner(System.in);
+    private static final int BUFFER_SIZE = 8192;
+
+    private final ReadableByteChannel channel;
+    private final CharsetDecoder decoder;
     private ConsolePrinter printer;
 
+    private final ByteBuffer input = ByteBuffer.allocate(BUFFER_SIZE);
+    private byte[] lineBytes = new byte[256];
+    private ByteBuffer lineByteBuffer = ByteBuffer.wrap(lineBytes);
+    private int lineLength;
+    private char[] lineChars = new char[256];
+    private CharBuffer lineCharBuffer = CharBuffer.wrap(lineChars);
+    private int charLength;
+    private char[] normalized = new char[256];
+    private CharBuffer normalizedView = CharBuffer.wrap(normalized);
+
     public DataReader(ConsolePrinter printer) {
+        this(Channels.newChannel(System.in), Charset.defaultCharset(), printer);
+    }
+
+    public DataReader(InputStream in, ConsolePrinter printer) {
+        this(Channels.newChannel(in), StandardCharsets.UTF_8, printer);
+    }
+
+    public DataReader(ReadableByteChannel channel, Charset charset, ConsolePrinter printer) {
+        this.channel = channel;
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
         this.printer = printer;
+        input.flip();
     }
 
     public void close() {
-        sc.close();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
     }
 
     public int getInt() {
-        try {
-            return sc.nextInt();
-        } finally {
-            sc.nextLine();
-        }
+        printer.flush();
+        do {
+            readLine();
+        } while (isBlank());
+        return parseInt();
     }
 
     public String getString() {
-        return sc.nextLine();
+        printer.flush();
+        readLine();
+        return new String(lineChars, 0, charLength);
     }
 
     public String getStringCaseInsensitive() {
-        return sc.nextLine().toUpperCase();
+        return getNormalizedLine().toString();
+    }
+
+    public CharSequence getNormalizedLine() {
+        printer.flush();
+        readLine();
+        int start = 0;
+        int end = charLength;
+        while (start < end && Character.isWhitespace(lineChars[start]))
+            start++;
+        while (end > start && Character.isWhitespace(lineChars[end - 1]))
+            end--;
+        for (int i = start; i < end; i++)
+            normalized[i] = Character.toUpperCase(lineChars[i]);
+        normalizedView.clear();
+        normalizedView.position(start).limit(end);
+        return normalizedView;
+    }
+
+    private void readLine() {
+        lineLength = 0;
+        boolean newLine = false;
+        while (!newLine) {
+            if (!input.hasRemaining() && !fill()) {
+                if (lineLength == 0)
+                    throw new NoSuchElementException("No line found");
+                break;
+            }
+            byte[] array = input.array();
+            int start = input.position();
+            int end = input.limit();
+            int i = start;
+            while (i < end && array[i] != '\n')
+                i++;
+            append(array, start, i - start);
+            newLine = i < end;
+            input.position(newLine ? i + 1 : i);
+        }
+        if (lineLength > 0 && lineBytes[lineLength - 1] == '\r')
+            lineLength--;
+        decodeLine();
+    }
+
+    private boolean fill() {
+        try {
+            input.clear();
+            int read;
+            do {
+                read = channel.read(input);
+            } while (read == 0);
+            input.flip();
+            return read > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void append(byte[] source, int offset, int length) {
+        if (lineLength + length > lineBytes.length) {
+            lineBytes = Arrays.copyOf(lineBytes, Math.max(lineLength + length, lineBytes.length * 2));
+            lineByteBuffer = ByteBuffer.wrap(lineBytes);
+        }
+        System.arraycopy(source, offset, lineBytes, lineLength, length);
+        lineLength += length;
+    }
+
+    private void decodeLine() {
+        if (lineChars.length < lineLength) {
+            lineChars = new char[lineLength];
+            lineCharBuffer = CharBuffer.wrap(lineChars);
+            normalized = new char[lineLength];
+            normalizedView = CharBuffer.wrap(normalized);
+        }
+        lineByteBuffer.clear().limit(lineLength);
+        lineCharBuffer.clear();
+        decoder.reset();
+        decoder.decode(lineByteBuffer, lineCharBuffer, true);
+        decoder.flush(lineCharBuffer);
+        charLength = lineCharBuffer.position();
+    }
+
+    private boolean isBlank() {
+        for (int i = 0; i < charLength; i++) {
+            if (!Character.isWhitespace(lineChars[i]))
+                return false;
+        }
+        return true;
+    }
+
+    private int parseInt() {
+        int i = 0;
+        while (i < charLength && Character.isWhitespace(lineChars[i]))
+            i++;
+        boolean negative = false;
+        if (i < charLength && (lineChars[i] == '-' || lineChars[i] == '+')) {
+            negative = lineChars[i] == '-';
+            i++;
+        }
+        int start = i;
+        long value = 0;
+        while (i < charLength && lineChars[i] >= '0' && lineChars[i] <= '9') {
+            value = value * 10 + (lineChars[i] - '0');
+            if (value > (long) Integer.MAX_VALUE + 1)
+                throw new InputMismatchException("For input: " + new String(lineChars, 0, charLength));
+            i++;
+        }
+        if (i == start || (i < charLength && !Character.isWhitespace(lineChars[i])))
+            throw new InputMismatchException("For input: " + new String(lineChars, 0, charLength));
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE)
+            throw new InputMismatchException("For input: " + new String(lineChars, 0, charLength));
+        return (int) value;
     }
-}
\ No newline at end of file
+}
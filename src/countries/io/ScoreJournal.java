@@ -0,0 +1,319 @@
+package countries.io;
+
+import countries.exeption.DataImportException;
+import countries.model.Score;
+import countries.model.Scoreboard;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+public class ScoreJournal {
+    public static final String JOURNAL_FILE_PATH = "score.journal";
+    public static final String SNAPSHOT_FILE_PATH = "score.snapshot";
+    public static final String LEGACY_FILE_PATH = "score.board";
+
+    private static final int LEGACY_SNAPSHOT_MAGIC = 0x4B53434F;
+    private static final int SNAPSHOT_MAGIC = 0x4B534332;
+    private static final int JOURNAL_MAGIC = 0x4B534A4E;
+    private static final int JOURNAL_HEADER_SIZE = Integer.BYTES + Long.BYTES;
+    private static final int MAX_NAME_BYTES = 256;
+    private static final int MAX_RECORD_SIZE = Integer.BYTES + Long.BYTES + Double.BYTES + Short.BYTES + MAX_NAME_BYTES + Integer.BYTES;
+    private static final int SYNC_BATCH = 16;
+    private static final long SYNC_INTERVAL_MS = 200;
+    private static final int COMPACT_THRESHOLD = 1000;
+
+    private final Path journalPath;
+    private final Path snapshotPath;
+    private final Path legacyPath;
+    private final FileChannel journal;
+    private final ByteBuffer record = ByteBuffer.allocate(MAX_RECORD_SIZE);
+    private final CRC32 crc = new CRC32();
+    private final ScheduledExecutorService syncer;
+    private int unsynced = 0;
+    private int journaled = 0;
+    private long generation = 0;
+    private boolean restored = false;
+    private String warning = null;
+
+    private ScoreJournal(Path journalPath, Path snapshotPath, Path legacyPath) throws IOException {
+        this.journalPath = journalPath;
+        this.snapshotPath = snapshotPath;
+        this.legacyPath = legacyPath;
+        this.journal = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "score-journal-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncer.scheduleWithFixedDelay(this::syncQuietly, SYNC_INTERVAL_MS, SYNC_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    public static ScoreJournal open() throws DataImportException {
+        return open(Path.of(JOURNAL_FILE_PATH), Path.of(SNAPSHOT_FILE_PATH), Path.of(LEGACY_FILE_PATH));
+    }
+
+    public static ScoreJournal open(Path journalPath, Path snapshotPath) throws DataImportException {
+        return open(journalPath, snapshotPath, null);
+    }
+
+    public static ScoreJournal open(Path journalPath, Path snapshotPath, Path legacyPath) throws DataImportException {
+        try {
+            return new ScoreJournal(journalPath, snapshotPath, legacyPath);
+        } catch (IOException e) {
+            throw new DataImportException("Error occurred while trying to open " + journalPath + ".");
+        }
+    }
+
+    public synchronized void restore(Scoreboard scoreboard) throws DataImportException {
+        restored = false;
+        warning = null;
+        try {
+            long covered = 0;
+            if (Files.exists(snapshotPath)) {
+                ByteBuffer snapshot = ByteBuffer.wrap(Files.readAllBytes(snapshotPath));
+                int magic = snapshot.remaining() < Integer.BYTES ? 0 : snapshot.getInt();
+                if (magic == SNAPSHOT_MAGIC && snapshot.remaining() >= Long.BYTES)
+                    covered = snapshot.getLong();
+                else if (magic != LEGACY_SNAPSHOT_MAGIC)
+                    throw new DataImportException("Mismatch data type in file " + snapshotPath + ".");
+                while (readRecord(snapshot, scoreboard)) {
+                }
+            }
+            ByteBuffer tail = ByteBuffer.allocate((int) journal.size());
+            journal.read(tail, 0);
+            tail.flip();
+            long journalGeneration = 0;
+            boolean header = tail.remaining() >= JOURNAL_HEADER_SIZE && tail.getInt(0) == JOURNAL_MAGIC;
+            if (header) {
+                journalGeneration = tail.getLong(Integer.BYTES);
+                tail.position(JOURNAL_HEADER_SIZE);
+            }
+            if (journalGeneration >= covered) {
+                while (readRecord(tail, scoreboard)) {
+                    journaled++;
+                }
+                generation = journalGeneration;
+            } else {
+                tail.position(0);
+                header = false;
+                generation = covered;
+            }
+            if (header || tail.position() > 0) {
+                journal.truncate(tail.position());
+                journal.position(tail.position());
+            } else {
+                resetJournal();
+            }
+        } catch (IOException e) {
+            throw new DataImportException("Error occurred while trying to read " + journalPath + ".");
+        }
+        restored = true;
+        importLegacy(scoreboard);
+    }
+
+    public synchronized String getWarning() {
+        return warning;
+    }
+
+    private void checkRestored() throws IOException {
+        if (!restored)
+            throw new IOException(journalPath + " was not restored, refusing to overwrite it.");
+    }
+
+    private void resetJournal() throws IOException {
+        journal.truncate(0);
+        ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_SIZE);
+        header.putInt(JOURNAL_MAGIC).putLong(generation).flip();
+        while (header.hasRemaining())
+            journal.write(header, header.position());
+        journal.position(JOURNAL_HEADER_SIZE);
+    }
+
+    private void importLegacy(Scoreboard scoreboard) {
+        if (legacyPath == null || !Files.exists(legacyPath))
+            return;
+        List<Score> scores;
+        try (LegacyInputStream in = new LegacyInputStream(Files.newInputStream(legacyPath))) {
+            Object board = in.readObject();
+            if (!(board instanceof LegacyScoreboard) || ((LegacyScoreboard) board).scoreboardList == null)
+                throw new ClassCastException();
+            scores = ((LegacyScoreboard) board).scoreboardList;
+        } catch (ClassNotFoundException | ClassCastException | IOException e) {
+            Path rejected = legacyPath.resolveSibling(legacyPath.getFileName() + ".rejected");
+            warning = "Mismatch data type in file " + legacyPath + ", " + (moveQuietly(legacyPath, rejected)
+                    ? "moved it to " + rejected + "." : "left it in place.");
+            return;
+        }
+        try {
+            for (Score score : scores)
+                scoreboard.addScore(score);
+            compact(scoreboard);
+            Files.move(legacyPath, legacyPath.resolveSibling(legacyPath.getFileName() + ".imported"),
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            warning = "Couldn't finish importing " + legacyPath + ", it will be imported again on the next start.";
+        }
+    }
+
+    private static boolean moveQuietly(Path source, Path target) {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private boolean readRecord(ByteBuffer buffer, Scoreboard scoreboard) {
+        int start = buffer.position();
+        if (buffer.remaining() < Integer.BYTES)
+            return false;
+        int length = buffer.getInt();
+        if (length < Long.BYTES + Double.BYTES + Short.BYTES || length > MAX_RECORD_SIZE
+                || buffer.remaining() < length + Integer.BYTES) {
+            buffer.position(start);
+            return false;
+        }
+        crc.reset();
+        crc.update(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+        long time = buffer.getLong();
+        double score = buffer.getDouble();
+        int nameLength = buffer.getShort();
+        if (nameLength != length - Long.BYTES - Double.BYTES - Short.BYTES) {
+            buffer.position(start);
+            return false;
+        }
+        byte[] name = new byte[nameLength];
+        buffer.get(name);
+        if (buffer.getInt() != (int) crc.getValue()) {
+            buffer.position(start);
+            return false;
+        }
+        scoreboard.addScore(new Score(time, new String(name, StandardCharsets.UTF_8), score));
+        return true;
+    }
+
+    private void writeRecord(ByteBuffer buffer, Score score) {
+        byte[] name = score.getName() == null ? new byte[0] : score.getName().getBytes(StandardCharsets.UTF_8);
+        int nameLength = Math.min(name.length, MAX_NAME_BYTES);
+        int length = Long.BYTES + Double.BYTES + Short.BYTES + nameLength;
+        buffer.putInt(length);
+        int payload = buffer.position();
+        buffer.putLong(score.getTime());
+        buffer.putDouble(score.getScore());
+        buffer.putShort((short) nameLength);
+        buffer.put(name, 0, nameLength);
+        crc.reset();
+        crc.update(buffer.array(), buffer.arrayOffset() + payload, length);
+        buffer.putInt((int) crc.getValue());
+    }
+
+    public synchronized boolean record(Scoreboard scoreboard, Score score) throws IOException {
+        if (!scoreboard.addScore(score))
+            return false;
+        append(score);
+        if (journaled >= COMPACT_THRESHOLD)
+            compact(scoreboard);
+        return true;
+    }
+
+    private void append(Score score) throws IOException {
+        checkRestored();
+        record.clear();
+        writeRecord(record, score);
+        record.flip();
+        while (record.hasRemaining())
+            journal.write(record);
+        journaled++;
+        if (++unsynced >= SYNC_BATCH)
+            sync();
+    }
+
+    public synchronized void compact(Scoreboard scoreboard) throws IOException {
+        checkRestored();
+        List<Score> scores = scoreboard.getScoreboardList();
+        long next = generation + 1;
+        ByteBuffer snapshot = ByteBuffer.allocate(Integer.BYTES + Long.BYTES + scores.size() * MAX_RECORD_SIZE);
+        snapshot.putInt(SNAPSHOT_MAGIC).putLong(next);
+        for (Score score : scores)
+            writeRecord(snapshot, score);
+        snapshot.flip();
+
+        Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (snapshot.hasRemaining())
+                channel.write(snapshot);
+            channel.force(true);
+        }
+        Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        generation = next;
+        resetJournal();
+        journal.force(true);
+        journaled = 0;
+        unsynced = 0;
+    }
+
+    public synchronized void sync() throws IOException {
+        if (unsynced > 0) {
+            journal.force(false);
+            unsynced = 0;
+        }
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (IOException ignored) {
+        }
+    }
+
+    public synchronized void close() throws IOException {
+        syncer.shutdown();
+        sync();
+        journal.close();
+    }
+
+    private static class LegacyScoreboard implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private List<Score> scoreboardList;
+    }
+
+    private static class LegacyInputStream extends ObjectInputStream {
+        private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+                LegacyScoreboard.class.getName() + ";" + Score.class.getName() + ";java.util.ArrayList;java.lang.Object;maxarray=1024;!*");
+
+        LegacyInputStream(InputStream in) throws IOException {
+            super(in);
+            setObjectInputFilter(FILTER);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            ObjectStreamClass descriptor = super.readClassDescriptor();
+            if (descriptor.getName().equals("countries.model.Scoreboard"))
+                return ObjectStreamClass.lookup(LegacyScoreboard.class);
+            if (descriptor.getName().equals(Score.class.getName()))
+                return ObjectStreamClass.lookup(Score.class);
+            return descriptor;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package countries.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("countries.Continent")
+@Label("Continent")
+@Description("Continent load or delete")
+public class ContinentEvent extends OperationEvent {
+}
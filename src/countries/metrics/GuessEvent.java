@@ -0,0 +1,11 @@
+package countries.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("countries.Guess")
+@Label("Guess")
+@Description("Guess lookup and state update")
+public class GuessEvent extends OperationEvent {
+}
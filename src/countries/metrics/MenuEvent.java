@@ -0,0 +1,11 @@
+package countries.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("countries.Menu")
+@Label("Menu")
+@Description("Main menu option handling")
+public class MenuEvent extends OperationEvent {
+}
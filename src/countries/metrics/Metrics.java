@@ -0,0 +1,94 @@
+package countries.metrics;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+public class Metrics {
+    private static final Map<Operation, LatencyHistogram> HISTOGRAMS = new EnumMap<>(Operation.class);
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    static {
+        for (Operation operation : Operation.values())
+            HISTOGRAMS.put(operation, new LatencyHistogram());
+    }
+
+    private Metrics() {
+    }
+
+    public static LatencyHistogram histogram(Operation operation) {
+        return HISTOGRAMS.get(operation);
+    }
+
+    public static Timer start(Operation operation) {
+        return new Timer(operation);
+    }
+
+    public static void reset() {
+        for (LatencyHistogram histogram : HISTOGRAMS.values())
+            histogram.reset();
+    }
+
+    public static String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-18s %10s %12s %12s %12s %12s%n", "operation", "count", "mean ns", "p50 ns", "p99 ns", "p99.9 ns"));
+        for (Operation operation : Operation.values()) {
+            LatencyHistogram histogram = HISTOGRAMS.get(operation);
+            sb.append(String.format("%-18s %10d %12d %12d %12d %12d%n", operation, histogram.getCount(),
+                    histogram.getMean(), histogram.percentile(50), histogram.percentile(99), histogram.percentile(99.9)));
+        }
+        return sb.toString();
+    }
+
+    public static Path dump() throws IOException {
+        String timestamp = LocalDateTime.now().format(FILE_TIMESTAMP);
+        Path report = Path.of("metrics-" + timestamp + ".txt");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(report, StandardCharsets.UTF_8))) {
+            writer.print(report());
+        }
+        if (FlightRecorder.isAvailable() && FlightRecorder.isInitialized()) {
+            for (Recording recording : FlightRecorder.getFlightRecorder().getRecordings()) {
+                if (recording.getState() == RecordingState.RUNNING) {
+                    recording.dump(Path.of("metrics-" + timestamp + "-" + recording.getId() + ".jfr"));
+                }
+            }
+        }
+        return report;
+    }
+
+    public static class Timer {
+        private final Operation operation;
+        private final OperationEvent event;
+        private final long start;
+
+        private Timer(Operation operation) {
+            this.operation = operation;
+            this.event = operation.newEvent();
+            event.begin();
+            this.start = System.nanoTime();
+        }
+
+        public void stop() {
+            stop(operation.toString());
+        }
+
+        public void stop(String detail) {
+            HISTOGRAMS.get(operation).record(System.nanoTime() - start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.detail = detail;
+                event.commit();
+            }
+        }
+    }
+}
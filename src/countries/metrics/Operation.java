@@ -0,0 +1,36 @@
+package countries.metrics;
+
+public enum Operation {
+    GUESS("guess"),
+    CONTINENT_LOAD("continent load"),
+    CONTINENT_DELETE("continent delete"),
+    SCOREBOARD_SAVE("scoreboard save"),
+    SCOREBOARD_LOAD("scoreboard load"),
+    MENU("menu");
+
+    private String description;
+
+    Operation(String description) {
+        this.description = description;
+    }
+
+    OperationEvent newEvent() {
+        switch (this) {
+            case GUESS:
+                return new GuessEvent();
+            case CONTINENT_LOAD:
+            case CONTINENT_DELETE:
+                return new ContinentEvent();
+            case SCOREBOARD_SAVE:
+            case SCOREBOARD_LOAD:
+                return new ScoreboardEvent();
+            default:
+                return new MenuEvent();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
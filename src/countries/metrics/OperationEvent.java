@@ -0,0 +1,11 @@
+package countries.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+@Category("Countries")
+public abstract class OperationEvent extends Event {
+    @Label("Detail")
+    String detail;
+}
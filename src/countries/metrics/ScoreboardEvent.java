@@ -0,0 +1,11 @@
+package countries.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("countries.Scoreboard")
+@Label("Scoreboard")
+@Description("Scoreboard save or load")
+public class ScoreboardEvent extends OperationEvent {
+}
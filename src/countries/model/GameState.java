@@ -0,0 +1,147 @@
+package countries.model;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+public class GameState {
+    private final BitSet loaded = new BitSet();
+    private final BitSet guessed = new BitSet();
+    private int loadedCount = 0;
+    private int guessedCount = 0;
+    private GameStateListener[] listeners = new GameStateListener[0];
+
+    public void addListener(GameStateListener listener) {
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+
+    private void notifyRemaining(int id, int delta) {
+        for (GameStateListener listener : listeners)
+            listener.remainingChanged(id, delta);
+    }
+
+    private void notifyLoaded(int id, boolean loaded) {
+        for (GameStateListener listener : listeners)
+            listener.loadedChanged(id, loaded);
+    }
+
+    private void notifyGuessed(int id, boolean guessed) {
+        for (GameStateListener listener : listeners)
+            listener.guessedChanged(id, guessed);
+    }
+
+    public int getLoadedCount() {
+        return loadedCount;
+    }
+
+    public int getGuessedCount() {
+        return guessedCount;
+    }
+
+    public int getRemainingCount() {
+        return loadedCount - guessedCount;
+    }
+
+    public boolean isLoaded(int id) {
+        return id >= 0 && loaded.get(id);
+    }
+
+    public boolean isGuessed(int id) {
+        return id >= 0 && guessed.get(id);
+    }
+
+    public void load(int[] ids) {
+        for (int id : ids)
+            load(id);
+    }
+
+    public void load(int from, int to) {
+        for (int id = from; id < to; id++)
+            load(id);
+    }
+
+    public void load(int[] regionMasks, int include, int exclude) {
+        for (int id = 0; id < regionMasks.length; id++) {
+            if ((regionMasks[id] & include) != 0 && (regionMasks[id] & exclude) == 0)
+                load(id);
+        }
+    }
+
+    private void load(int id) {
+        if (!loaded.get(id)) {
+            loaded.set(id);
+            loadedCount++;
+            notifyLoaded(id, true);
+            if (!guessed.get(id))
+                notifyRemaining(id, 1);
+        }
+    }
+
+    public void remove(int[] ids) {
+        for (int id : ids)
+            remove(id);
+    }
+
+    public void remove(int[] regionMasks, int include, int exclude) {
+        for (int id = 0; id < regionMasks.length; id++) {
+            if ((regionMasks[id] & include) != 0 && (regionMasks[id] & exclude) == 0)
+                remove(id);
+        }
+    }
+
+    private void remove(int id) {
+        if (loaded.get(id)) {
+            loaded.clear(id);
+            loadedCount--;
+            notifyLoaded(id, false);
+            if (guessed.get(id)) {
+                guessed.clear(id);
+                guessedCount--;
+                notifyGuessed(id, false);
+            } else {
+                notifyRemaining(id, -1);
+            }
+        }
+    }
+
+    public boolean guess(int id) {
+        if (!isLoaded(id) || guessed.get(id))
+            return false;
+        guessed.set(id);
+        guessedCount++;
+        notifyGuessed(id, true);
+        notifyRemaining(id, -1);
+        return true;
+    }
+
+    public void restart() {
+        if (listeners.length > 0) {
+            for (int id = guessed.nextSetBit(0); id >= 0; id = guessed.nextSetBit(id + 1)) {
+                notifyGuessed(id, false);
+                notifyRemaining(id, 1);
+            }
+        }
+        guessed.clear();
+        guessedCount = 0;
+    }
+
+    public boolean isFinished() {
+        return guessedCount == loadedCount;
+    }
+
+    public int nextLoaded(int from) {
+        return loaded.nextSetBit(from);
+    }
+
+    public int nextGuessed(int from) {
+        return guessed.nextSetBit(from);
+    }
+
+    public int nextRemaining(int from) {
+        int id = loaded.nextSetBit(from);
+        while (id >= 0 && guessed.get(id)) {
+            id = loaded.nextSetBit(guessed.nextClearBit(id));
+        }
+        return id;
+    }
+}
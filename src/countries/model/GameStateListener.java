@@ -0,0 +1,11 @@
+package countries.model;
+
+public interface GameStateListener {
+    void remainingChanged(int id, int delta);
+
+    default void loadedChanged(int id, boolean loaded) {
+    }
+
+    default void guessedChanged(int id, boolean guessed) {
+    }
+}
@@ -0,0 +1,52 @@
+package countries.model;
+
+import countries.dictionary.PrefixTrie;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+public class PrefixCounts implements GameStateListener {
+    private final PrefixTrie trie;
+    private final GameState gameState;
+    private final int[] remaining;
+    private int[] stack = new int[64];
+
+    public PrefixCounts(PrefixTrie trie, GameState gameState) {
+        this.trie = trie;
+        this.gameState = gameState;
+        this.remaining = new int[trie.getNodeCount()];
+    }
+
+    @Override
+    public void remainingChanged(int id, int delta) {
+        for (int node = trie.nodeOf(id); node != PrefixTrie.NO_NODE; node = trie.parent(node))
+            remaining[node] += delta;
+    }
+
+    public int countRemaining(CharSequence prefix) {
+        int node = trie.find(prefix);
+        return node == PrefixTrie.NO_NODE ? 0 : remaining[node];
+    }
+
+    public void forEachRemaining(CharSequence prefix, IntConsumer action) {
+        int node = trie.find(prefix);
+        if (node == PrefixTrie.NO_NODE || remaining[node] == 0)
+            return;
+        int top = 0;
+        stack[top++] = node;
+        while (top > 0) {
+            node = stack[--top];
+            for (int id = trie.terminal(node); id >= 0; id = trie.nextTerminal(id)) {
+                if (gameState.isLoaded(id) && !gameState.isGuessed(id))
+                    action.accept(id);
+            }
+            for (int child = trie.firstChild(node); child != PrefixTrie.NO_NODE; child = trie.nextSibling(child)) {
+                if (remaining[child] > 0) {
+                    if (top == stack.length)
+                        stack = Arrays.copyOf(stack, top * 2);
+                    stack[top++] = child;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package countries.model;
+
+import java.util.Arrays;
+
+public class RankIndex {
+    public static final int NO_PLAYER = -1;
+
+    private static final int NIL = -1;
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private double[] scores = new double[INITIAL_CAPACITY];
+    private int[] players = new int[INITIAL_CAPACITY];
+    private int[] priorities = new int[INITIAL_CAPACITY];
+    private int[] left = new int[INITIAL_CAPACITY];
+    private int[] right = new int[INITIAL_CAPACITY];
+    private int[] sizes = new int[INITIAL_CAPACITY];
+    private int root = NIL;
+    private int total = 0;
+    private int seed = 0x9E3779B9;
+    private int splitLeft;
+    private int splitRight;
+
+    public synchronized void add(double score, int player) {
+        if (total == scores.length)
+            grow();
+        int node = total++;
+        scores[node] = score;
+        players[node] = player;
+        priorities[node] = nextPriority();
+        left[node] = NIL;
+        right[node] = NIL;
+        sizes[node] = 1;
+        root = insert(root, node);
+    }
+
+    public synchronized long size() {
+        return total;
+    }
+
+    public synchronized long rankOf(double score) {
+        return countBetter(score) + 1;
+    }
+
+    public synchronized double percentile(double score) {
+        if (total == 0)
+            return 100;
+        return 100.0 * countWorse(score) / total;
+    }
+
+    public synchronized long pages(int pageSize) {
+        return ((long) total + pageSize - 1) / pageSize;
+    }
+
+    public void forEachOnPage(long page, int pageSize, RankVisitor visitor) {
+        forEachInWindow((page - 1) * pageSize + 1, pageSize, visitor);
+    }
+
+    public synchronized void forEachInWindow(long fromRank, int count, RankVisitor visitor) {
+        long first = Math.max(1, fromRank);
+        long last = Math.min(total, fromRank + count - 1);
+        long rank = 0;
+        double previous = 0;
+        for (long position = first; position <= last; position++) {
+            int node = select((int) (position - 1));
+            if (position == first || scores[node] != previous)
+                rank = position == first ? countBetter(scores[node]) + 1 : position;
+            previous = scores[node];
+            visitor.visit(rank, scores[node], players[node]);
+        }
+    }
+
+    private int insert(int tree, int node) {
+        if (tree == NIL)
+            return node;
+        if (priorities[node] > priorities[tree]) {
+            split(tree, scores[node]);
+            left[node] = splitLeft;
+            right[node] = splitRight;
+            update(node);
+            return node;
+        }
+        if (scores[node] < scores[tree])
+            left[tree] = insert(left[tree], node);
+        else
+            right[tree] = insert(right[tree], node);
+        update(tree);
+        return tree;
+    }
+
+    private void split(int tree, double score) {
+        if (tree == NIL) {
+            splitLeft = NIL;
+            splitRight = NIL;
+        } else if (scores[tree] <= score) {
+            split(right[tree], score);
+            right[tree] = splitLeft;
+            update(tree);
+            splitLeft = tree;
+        } else {
+            split(left[tree], score);
+            left[tree] = splitRight;
+            update(tree);
+            splitRight = tree;
+        }
+    }
+
+    private int select(int index) {
+        int node = root;
+        while (node != NIL) {
+            int before = size(left[node]);
+            if (index < before) {
+                node = left[node];
+            } else if (index == before) {
+                return node;
+            } else {
+                index -= before + 1;
+                node = right[node];
+            }
+        }
+        throw new IndexOutOfBoundsException("No rank " + (index + 1));
+    }
+
+    private long countBetter(double score) {
+        long count = 0;
+        for (int node = root; node != NIL; ) {
+            if (scores[node] < score) {
+                count += size(left[node]) + 1;
+                node = right[node];
+            } else {
+                node = left[node];
+            }
+        }
+        return count;
+    }
+
+    private long countWorse(double score) {
+        long count = 0;
+        for (int node = root; node != NIL; ) {
+            if (scores[node] > score) {
+                count += size(right[node]) + 1;
+                node = left[node];
+            } else {
+                node = right[node];
+            }
+        }
+        return count;
+    }
+
+    private int size(int node) {
+        return node == NIL ? 0 : sizes[node];
+    }
+
+    private void update(int node) {
+        sizes[node] = size(left[node]) + size(right[node]) + 1;
+    }
+
+    private int nextPriority() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+
+    private void grow() {
+        int capacity = scores.length * 2;
+        scores = Arrays.copyOf(scores, capacity);
+        players = Arrays.copyOf(players, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        sizes = Arrays.copyOf(sizes, capacity);
+    }
+}
@@ -0,0 +1,5 @@
+package countries.model;
+
+public interface RankVisitor {
+    void visit(long rank, double score, int player);
+}
@@ -16,6 +16,12 @@ public class Score implements Serializable {
         this.name = name;
     }
 
+    public Score(long time, String name, double score) {
+        this.time = time;
+        this.name = name;
+        this.score = score;
+    }
+
     public long getTime() {
         return time;
     }
@@ -33,21 +39,7 @@ public class Score implements Serializable {
     }
 
     public void calculateScore(int guessed) {
-        if(guessed == 0)
-            this.score = 0;
-        else if(guessed <= 30) {
-            this.score = this.time / (double) guessed;
-        } else {
-            double weight = 0;
-            for (int i = 0; i < guessed - 30; i++)
-                weight += calculateSingleWeight(i);
-            this.score = this.time / weight;
-        }
-    }
-
-    private double calculateSingleWeight(int guessed) {
-        if(guessed == 0) return 1;
-        return calculateSingleWeight(guessed - 1) + 0.01;
+        this.score = ScoreCalculator.calculate(this.time, guessed);
     }
 
     @Override
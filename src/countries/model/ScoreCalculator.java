@@ -0,0 +1,37 @@
+package countries.model;
+
+public class ScoreCalculator {
+    private static final int LINEAR_LIMIT = 30;
+    private static final double WEIGHT_STEP = 0.01;
+
+    private ScoreCalculator() {
+    }
+
+    public static double weight(int guessed) {
+        if (guessed <= LINEAR_LIMIT)
+            return guessed;
+        double n = guessed - LINEAR_LIMIT;
+        return n + WEIGHT_STEP * n * (n - 1) / 2;
+    }
+
+    public static double calculate(long time, int guessed) {
+        if (guessed == 0)
+            return 0;
+        return time / weight(guessed);
+    }
+
+    public static void calculateAll(long[] times, int[] guessed, double[] scores) {
+        if (times.length != guessed.length || scores.length < times.length)
+            throw new IllegalArgumentException("Arrays of times, guessed counts and scores must have matching lengths");
+        calculateAll(times, guessed, scores, 0, times.length);
+    }
+
+    public static void calculateAll(long[] times, int[] guessed, double[] scores, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int g = guessed[i];
+            double n = g - LINEAR_LIMIT;
+            double weight = g <= LINEAR_LIMIT ? g : n + WEIGHT_STEP * n * (n - 1) / 2;
+            scores[i] = g == 0 ? 0 : times[i] / weight;
+        }
+    }
+}
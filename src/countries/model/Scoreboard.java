@@ -1,38 +1,93 @@
 package countries.model;
 
-import java.io.*;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
-public class Scoreboard implements Serializable {
-    private List<Score> scoreboardList = new ArrayList<>();
-    public static final String SCOREBOARD_FILE_PATH = "score.board";
+public class Scoreboard {
+    public static final int DEFAULT_CAPACITY = 10;
+
+    private final int capacity;
+    private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile double threshold = Double.MAX_VALUE;
+
+    public Scoreboard() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public Scoreboard(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Scoreboard capacity must be positive");
+        this.capacity = capacity;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
 
     public List<Score> getScoreboardList() {
-        return scoreboardList;
+        List<Score> list = new ArrayList<>(capacity);
+        for (Entry entry : entries)
+            list.add(entry.score);
+        return list;
     }
 
-    private void sort() {
-        scoreboardList.sort(Comparator.comparing(Score::getTime));
+    public boolean qualifies(Score score) {
+        return score.getScore() > 0 && score.getScore() < threshold;
     }
 
-    public void addScore(Score score) {
-        scoreboardList.add(score);
-        this.sort();
+    public boolean addScore(Score score) {
+        if (!qualifies(score))
+            return false;
+        Entry entry = new Entry(score, sequence.getAndIncrement());
+        entries.add(entry);
+        boolean kept = true;
+        if (size.incrementAndGet() > capacity) {
+            Entry evicted = entries.pollLast();
+            if (evicted != null) {
+                size.decrementAndGet();
+                kept = evicted != entry;
+            }
+        }
+        if (size.get() >= capacity)
+            updateThreshold();
+        return kept && entries.contains(entry);
     }
 
-    public void replaceLast(Score score) {
-        scoreboardList.set(9, score);
-        this.sort();
+    private void updateThreshold() {
+        try {
+            threshold = entries.last().score.getScore();
+        } catch (NoSuchElementException ignored) {
+        }
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        for (Score score : scoreboardList) {
-            sb.append(score.toString()).append("  ");
+        for (Entry entry : entries) {
+            sb.append(entry.score.toString()).append("  ");
         }
         return sb.toString();
     }
-}
\ No newline at end of file
+
+    private static class Entry implements Comparable<Entry> {
+        private final Score score;
+        private final long sequence;
+
+        Entry(Score score, long sequence) {
+            this.score = score;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int result = Double.compare(score.getScore(), other.score.getScore());
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package countries.model;
+
+import countries.dictionary.CollationOrder;
+
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+public class SortedCountries implements GameStateListener {
+    private final CollationOrder order;
+    private final BitSet loaded = new BitSet();
+    private final BitSet guessed = new BitSet();
+
+    public SortedCountries(CollationOrder order) {
+        this.order = order;
+    }
+
+    @Override
+    public void remainingChanged(int id, int delta) {
+    }
+
+    @Override
+    public void loadedChanged(int id, boolean loaded) {
+        this.loaded.set(order.rankOf(id), loaded);
+    }
+
+    @Override
+    public void guessedChanged(int id, boolean guessed) {
+        this.guessed.set(order.rankOf(id), guessed);
+    }
+
+    public void forEachLoaded(IntConsumer action) {
+        for (int rank = loaded.nextSetBit(0); rank >= 0; rank = loaded.nextSetBit(rank + 1))
+            action.accept(order.idAt(rank));
+    }
+
+    public void forEachGuessed(IntConsumer action) {
+        for (int rank = guessed.nextSetBit(0); rank >= 0; rank = guessed.nextSetBit(rank + 1))
+            action.accept(order.idAt(rank));
+    }
+
+    public void forEachRemaining(IntConsumer action) {
+        for (int rank = loaded.nextSetBit(0); rank >= 0; rank = loaded.nextSetBit(rank + 1)) {
+            if (guessed.get(rank))
+                rank = guessed.nextClearBit(rank) - 1;
+            else
+                action.accept(order.idAt(rank));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package countries.race;
+
+import countries.dictionary.CountryDictionary;
+import countries.dictionary.Paths;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class RaceGame {
+    public static final int NOT_IN_RACE = -2;
+    public static final int UNCLAIMED = -1;
+
+    private final AtomicIntegerArray owners;
+    private final AtomicInteger remaining;
+    private final int total;
+    private final List<RacePlayer> players = new CopyOnWriteArrayList<>();
+    private final CountryDictionary dictionary;
+
+    public RaceGame(CountryDictionary dictionary) {
+        this(dictionary, dictionary.size(), dictionary.members(Paths.ALL_COUNTRIES));
+    }
+
+    public RaceGame(int size, int[] ids) {
+        this(null, size, ids);
+    }
+
+    private RaceGame(CountryDictionary dictionary, int size, int[] ids) {
+        this.dictionary = dictionary;
+        owners = new AtomicIntegerArray(size);
+        for (int id = 0; id < size; id++)
+            owners.set(id, NOT_IN_RACE);
+        int count = 0;
+        for (int id : ids) {
+            if (owners.get(id) == NOT_IN_RACE) {
+                owners.set(id, UNCLAIMED);
+                count++;
+            }
+        }
+        total = count;
+        remaining = new AtomicInteger(count);
+    }
+
+    public synchronized RacePlayer join(String name) {
+        RacePlayer player = new RacePlayer(players.size(), name);
+        players.add(player);
+        return player;
+    }
+
+    public boolean claim(RacePlayer player, int id) {
+        if (id < 0 || id >= owners.length() || !owners.compareAndSet(id, UNCLAIMED, player.getId()))
+            return false;
+        player.claimed();
+        remaining.decrementAndGet();
+        return true;
+    }
+
+    public CountryDictionary getDictionary() {
+        return dictionary;
+    }
+
+    public int ownerOf(int id) {
+        return id < 0 || id >= owners.length() ? NOT_IN_RACE : owners.get(id);
+    }
+
+    public RacePlayer player(int id) {
+        return players.get(id);
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getRemaining() {
+        return remaining.get();
+    }
+
+    public boolean isFinished() {
+        return remaining.get() == 0;
+    }
+
+    public List<Standing> standings() {
+        List<Standing> standings = new ArrayList<>(players.size());
+        for (RacePlayer player : players)
+            standings.add(new Standing(player.getName(), player.getClaims()));
+        standings.sort(Comparator.comparingInt(Standing::getClaims).reversed());
+        return standings;
+    }
+}
@@ -0,0 +1,30 @@
+package countries.race;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RacePlayer {
+    private final int id;
+    private final String name;
+    private final AtomicInteger claims = new AtomicInteger();
+
+    RacePlayer(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getClaims() {
+        return claims.get();
+    }
+
+    void claimed() {
+        claims.incrementAndGet();
+    }
+}
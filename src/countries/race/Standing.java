@@ -0,0 +1,24 @@
+package countries.race;
+
+public class Standing {
+    private final String name;
+    private final int claims;
+
+    Standing(String name, int claims) {
+        this.name = name;
+        this.claims = claims;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getClaims() {
+        return claims;
+    }
+
+    @Override
+    public String toString() {
+        return claims + " " + name;
+    }
+}
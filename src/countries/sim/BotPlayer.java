@@ -0,0 +1,188 @@
+package countries.sim;
+
+import countries.dictionary.CountryDictionary;
+import countries.dictionary.Language;
+import countries.dictionary.Paths;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+public class BotPlayer implements ReadableByteChannel {
+    private static final byte[] LANGUAGE_PROMPT = ascii("Choose guessing language");
+    private static final byte[] MAIN_MENU_PROMPT = ascii("Choose option: ");
+    private static final byte[] CONTINENT_PROMPT = ascii("Choose continent: ");
+    private static final byte[] GUESS_PROMPT = ascii("Your guess: ");
+    private static final byte[] NAME_PROMPT = ascii("Insert your name: ");
+    private static final byte[] SAVE_PROMPT = ascii("press Y/y");
+    private static final byte[] GIVE_UP = ascii("Q");
+    private static final byte[] MISS = ascii("ATLANTYDA");
+    private static final double MISS_RATE = 0.2;
+    private static final double TYPO_RATE = 0.3;
+    private static final double GIVE_UP_AT = 0.5;
+
+    private final BotStrategy strategy;
+    private final Language language;
+    private final Paths region;
+    private final Random random;
+    private final byte[][] names;
+    private final byte[] name;
+    private final Output output = new Output();
+
+    private int gamesToPlay;
+    private int gamesPlayed = 0;
+    private boolean regionLoaded = false;
+    private boolean regionChosen = false;
+    private int[] order;
+    private int nextGuess;
+    private boolean finished = false;
+    private boolean open = true;
+
+    public BotPlayer(int botId, BotStrategy strategy, CountryDictionary dictionary, Language language, Paths region,
+                     int gamesToPlay, long seed) {
+        this.strategy = strategy;
+        this.language = language;
+        this.region = region;
+        this.gamesToPlay = gamesToPlay;
+        this.random = new Random(seed);
+        int[] members = dictionary.members(region);
+        this.names = new byte[members.length][];
+        for (int i = 0; i < members.length; i++)
+            names[i] = dictionary.name(language, members[i]).getBytes(StandardCharsets.UTF_8);
+        this.order = new int[members.length];
+        this.name = ascii("bot" + botId);
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public OutputStream getOutput() {
+        return output;
+    }
+
+    public int getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    @Override
+    public int read(ByteBuffer target) {
+        if (finished)
+            return -1;
+        int start = target.position();
+        answer(target);
+        target.put((byte) '\n');
+        return target.position() - start;
+    }
+
+    private void answer(ByteBuffer target) {
+        if (output.endsWith(GUESS_PROMPT)) {
+            guess(target);
+        } else if (output.endsWith(NAME_PROMPT)) {
+            target.put(name);
+        } else if (output.contains(SAVE_PROMPT)) {
+            target.put((byte) 'Y');
+        } else if (output.contains(CONTINENT_PROMPT)) {
+            target.put((byte) ('0' + (regionChosen ? 0 : region.ordinal() + 1)));
+            regionLoaded = regionChosen;
+            regionChosen = true;
+        } else if (output.contains(MAIN_MENU_PROMPT)) {
+            if (!regionLoaded) {
+                target.put((byte) '2');
+            } else if (gamesPlayed < gamesToPlay) {
+                startGame();
+                target.put((byte) '1');
+            } else {
+                target.put((byte) '0');
+                finished = true;
+            }
+        } else if (output.contains(LANGUAGE_PROMPT)) {
+            target.put((byte) ('0' + language.getValue()));
+        } else {
+            target.put((byte) '0');
+        }
+    }
+
+    private void startGame() {
+        gamesPlayed++;
+        nextGuess = 0;
+        for (int i = 0; i < order.length; i++)
+            order[i] = i;
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+    }
+
+    private void guess(ByteBuffer target) {
+        if (nextGuess >= names.length
+                || (strategy == BotStrategy.GIVE_UP && nextGuess >= names.length * GIVE_UP_AT)) {
+            target.put(GIVE_UP);
+            return;
+        }
+        if (strategy == BotStrategy.RANDOM_MISSES && random.nextDouble() < MISS_RATE) {
+            target.put(MISS);
+            return;
+        }
+        byte[] guess = names[order[nextGuess++]];
+        int start = target.position();
+        target.put(guess);
+        if (strategy == BotStrategy.TYPOS && random.nextDouble() < TYPO_RATE) {
+            int position = start + random.nextInt(guess.length);
+            byte letter = target.get(position);
+            if (letter >= 'A' && letter <= 'Z')
+                target.put(position, (byte) ('A' + (letter - 'A' + 1) % 26));
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        open = false;
+    }
+
+    private static class Output extends OutputStream {
+        private byte[] frame = new byte[4096];
+        private int length = 0;
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int count) {
+            if (frame.length < count)
+                frame = Arrays.copyOf(frame, Math.max(count, frame.length * 2));
+            System.arraycopy(bytes, offset, frame, 0, count);
+            length = count;
+        }
+
+        boolean endsWith(byte[] suffix) {
+            if (length < suffix.length)
+                return false;
+            return Arrays.equals(frame, length - suffix.length, length, suffix, 0, suffix.length);
+        }
+
+        boolean contains(byte[] text) {
+            outer:
+            for (int i = 0; i <= length - text.length; i++) {
+                for (int j = 0; j < text.length; j++) {
+                    if (frame[i + j] != text[j])
+                        continue outer;
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+}
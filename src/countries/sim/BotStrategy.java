@@ -0,0 +1,29 @@
+package countries.sim;
+
+import countries.exeption.NoSuchOptionException;
+
+public enum BotStrategy {
+    PERFECT("perfect recall"),
+    RANDOM_MISSES("random misses"),
+    TYPOS("typos"),
+    GIVE_UP("early give up");
+
+    private String description;
+
+    BotStrategy(String description) {
+        this.description = description;
+    }
+
+    public static BotStrategy createFromString(String name) {
+        try {
+            return BotStrategy.valueOf(name.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new NoSuchOptionException("No strategy " + name);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
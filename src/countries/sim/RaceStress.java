@@ -0,0 +1,141 @@
+package countries.sim;
+
+import countries.io.ConsolePrinter;
+import countries.race.RaceGame;
+import countries.race.RacePlayer;
+import countries.race.Standing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class RaceStress {
+    private static final int TOP_STANDINGS = 5;
+
+    private final int threads;
+    private final int countries;
+    private final int rounds;
+    private final long seed;
+    private final ConsolePrinter printer = new ConsolePrinter();
+
+    public RaceStress(int threads, int countries, int rounds, long seed) {
+        this.threads = threads;
+        this.countries = countries;
+        this.rounds = rounds;
+        this.seed = seed;
+    }
+
+    public void run() {
+        int[] ids = new int[countries];
+        for (int id = 0; id < countries; id++)
+            ids[id] = id;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long attempts = 0;
+        long elapsed = 0;
+        int failures = 0;
+        int uncontended = 0;
+        RaceGame race = null;
+        try {
+            for (int round = 0; round < rounds; round++) {
+                race = new RaceGame(countries, ids);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Integer>> results = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    RacePlayer player = race.join("bot-" + i);
+                    Random random = new Random(seed + (long) round * threads + i);
+                    RaceGame current = race;
+                    results.add(executor.submit(() -> claimAll(current, player, shuffled(ids, random), start)));
+                }
+                long begin = System.nanoTime();
+                start.countDown();
+                for (Future<Integer> result : results)
+                    attempts += result.get();
+                elapsed += System.nanoTime() - begin;
+                if (!isConsistent(race))
+                    failures++;
+                if (claimants(race) < Math.min(2, threads))
+                    uncontended++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            printer.printErrorLine("Race stress failed: " + e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+        printReport(race, attempts, elapsed, failures, uncontended);
+    }
+
+    private static int claimAll(RaceGame race, RacePlayer player, int[] order, CountDownLatch start)
+            throws InterruptedException {
+        start.await();
+        int attempts = 0;
+        for (int id : order) {
+            if (race.isFinished())
+                break;
+            race.claim(player, id);
+            attempts++;
+            Thread.yield();
+        }
+        return attempts;
+    }
+
+    private static int[] shuffled(int[] ids, Random random) {
+        int[] order = ids.clone();
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        return order;
+    }
+
+    private static int claimants(RaceGame race) {
+        int claimants = 0;
+        for (Standing standing : race.standings()) {
+            if (standing.getClaims() > 0)
+                claimants++;
+        }
+        return claimants;
+    }
+
+    private static boolean isConsistent(RaceGame race) {
+        int claimed = 0;
+        for (Standing standing : race.standings())
+            claimed += standing.getClaims();
+        if (claimed != race.getTotal() || !race.isFinished())
+            return false;
+        int[] owned = new int[race.standings().size()];
+        for (int id = 0; id < race.getTotal(); id++) {
+            int owner = race.ownerOf(id);
+            if (owner < 0)
+                return false;
+            owned[owner]++;
+        }
+        for (int owner = 0; owner < owned.length; owner++) {
+            if (owned[owner] != race.player(owner).getClaims())
+                return false;
+        }
+        return true;
+    }
+
+    private void printReport(RaceGame race, long attempts, long elapsed, int failures, int uncontended) {
+        double seconds = elapsed / 1e9;
+        printer.printLine(String.format("%d rounds of %d countries with %d threads in %.3f s", rounds, countries,
+                threads, seconds));
+        printer.printLine(String.format("%.0f claims/s, %d inconsistent rounds, %d rounds won by a single thread",
+                attempts / Math.max(seconds, 1e-9), failures, uncontended));
+        if (race != null) {
+            List<Standing> standings = race.standings();
+            for (int i = 0; i < Math.min(TOP_STANDINGS, standings.size()); i++)
+                printer.printLine((i + 1) + ". " + standings.get(i));
+        }
+        printer.flush();
+    }
+}
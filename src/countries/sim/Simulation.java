@@ -0,0 +1,98 @@
+package countries.sim;
+
+import countries.app.GameControl;
+import countries.app.GameResources;
+import countries.dictionary.CountryDictionary;
+import countries.dictionary.Language;
+import countries.dictionary.Paths;
+import countries.io.ConsolePrinter;
+import countries.io.DataReader;
+import countries.metrics.LatencyHistogram;
+import countries.metrics.Metrics;
+import countries.metrics.Operation;
+import countries.model.Scoreboard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class Simulation {
+    private static final int GAMES_PER_SESSION = 10;
+
+    private final int games;
+    private final int threads;
+    private final BotStrategy strategy;
+    private final long seed;
+    private final Language language = Language.POLISH;
+    private final Paths region = Paths.ALL_COUNTRIES;
+    private final ConsolePrinter printer = new ConsolePrinter();
+
+    public Simulation(int games, int threads, BotStrategy strategy, long seed) {
+        this.games = games;
+        this.threads = threads;
+        this.strategy = strategy;
+        this.seed = seed;
+    }
+
+    public void run() {
+        GameResources resources = new GameResources(CountryDictionary.open(), new Scoreboard(), null);
+        resources.getDictionary().fuzzyIndex(language);
+        resources.getDictionary().prefixTrie(language);
+        Metrics.reset();
+
+        AtomicInteger remaining = new AtomicInteger(games);
+        AtomicInteger botIds = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Integer>> results = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> playSessions(resources, remaining, botIds)));
+        }
+        int played = 0;
+        try {
+            for (Future<Integer> result : results)
+                played += result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            printer.printErrorLine("Simulation failed: " + e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+        long elapsed = System.nanoTime() - start;
+        printReport(played, elapsed);
+    }
+
+    private int playSessions(GameResources resources, AtomicInteger remaining, AtomicInteger botIds) {
+        int played = 0;
+        int session;
+        while ((session = remaining.getAndAdd(-GAMES_PER_SESSION)) > 0) {
+            int gamesToPlay = Math.min(GAMES_PER_SESSION, session);
+            int botId = botIds.incrementAndGet();
+            BotPlayer bot = new BotPlayer(botId, strategy, resources.getDictionary(), language, region,
+                    gamesToPlay, seed + botId);
+            ConsolePrinter botPrinter = new ConsolePrinter(bot.getOutput(), bot.getOutput(), StandardCharsets.UTF_8);
+            DataReader botReader = new DataReader(bot, StandardCharsets.UTF_8, botPrinter);
+            new GameControl(botPrinter, botReader, resources).controlLoop();
+            played += bot.getGamesPlayed();
+        }
+        return played;
+    }
+
+    private void printReport(int played, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        LatencyHistogram guesses = Metrics.histogram(Operation.GUESS);
+        printer.printLine("Strategy: " + strategy + ", threads: " + threads + ", seed: " + seed);
+        printer.printLine(String.format("Games: %d in %.3f s (%.1f games/s)", played, seconds, played / seconds));
+        printer.printLine(String.format("Guesses: %d (%.1f guesses/s)", guesses.getCount(), guesses.getCount() / seconds));
+        printer.printLine(String.format("Guess latency ns: p50 %d, p90 %d, p99 %d, p99.9 %d, mean %d",
+                guesses.percentile(50), guesses.percentile(90), guesses.percentile(99), guesses.percentile(99.9),
+                guesses.getMean()));
+        printer.flush();
+    }
+}
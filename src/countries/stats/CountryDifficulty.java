@@ -0,0 +1,36 @@
+package countries.stats;
+
+public class CountryDifficulty {
+    private final int id;
+    private final long guessed;
+    private final long missed;
+    private final long positionSum;
+
+    CountryDifficulty(int id, long guessed, long missed, long positionSum) {
+        this.id = id;
+        this.guessed = guessed;
+        this.missed = missed;
+        this.positionSum = positionSum;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public long getGuessed() {
+        return guessed;
+    }
+
+    public long getMissed() {
+        return missed;
+    }
+
+    public double getMissRate() {
+        long games = guessed + missed;
+        return games == 0 ? 0 : (double) missed / games;
+    }
+
+    public double getAveragePosition() {
+        return guessed == 0 ? 0 : (double) positionSum / guessed;
+    }
+}
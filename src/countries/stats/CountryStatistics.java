@@ -0,0 +1,77 @@
+package countries.stats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntUnaryOperator;
+
+public class CountryStatistics {
+    private final LongAdder[] guessed;
+    private final LongAdder[] missed;
+    private final LongAdder[] positionSum;
+
+    public CountryStatistics(int size) {
+        guessed = newCells(size);
+        missed = newCells(size);
+        positionSum = newCells(size);
+    }
+
+    private static LongAdder[] newCells(int size) {
+        LongAdder[] cells = new LongAdder[size];
+        for (int i = 0; i < size; i++)
+            cells[i] = new LongAdder();
+        return cells;
+    }
+
+    public int size() {
+        return guessed.length;
+    }
+
+    public void recordGuess(int id, int position) {
+        guessed[id].increment();
+        positionSum[id].add(position);
+    }
+
+    public void recordMiss(int id) {
+        missed[id].increment();
+    }
+
+    public CountryStatistics remap(int size, IntUnaryOperator mapping) {
+        CountryStatistics remapped = new CountryStatistics(size);
+        for (int id = 0; id < size(); id++) {
+            int moved = mapping.applyAsInt(id);
+            if (moved < 0 || moved >= size)
+                continue;
+            remapped.guessed[moved].add(guessed[id].sum());
+            remapped.missed[moved].add(missed[id].sum());
+            remapped.positionSum[moved].add(positionSum[id].sum());
+        }
+        return remapped;
+    }
+
+    public CountryDifficulty get(int id) {
+        return new CountryDifficulty(id, guessed[id].sum(), missed[id].sum(), positionSum[id].sum());
+    }
+
+    public List<CountryDifficulty> ranking() {
+        List<CountryDifficulty> ranking = new ArrayList<>(size());
+        for (int id = 0; id < size(); id++) {
+            CountryDifficulty difficulty = get(id);
+            if (difficulty.getGuessed() + difficulty.getMissed() > 0)
+                ranking.add(difficulty);
+        }
+        ranking.sort(Comparator.comparingDouble(CountryDifficulty::getMissRate)
+                .thenComparingDouble(CountryDifficulty::getAveragePosition)
+                .reversed());
+        return ranking;
+    }
+
+    public void reset() {
+        for (int id = 0; id < size(); id++) {
+            guessed[id].reset();
+            missed[id].reset();
+            positionSum[id].reset();
+        }
+    }
+}
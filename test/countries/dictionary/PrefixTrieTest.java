@@ -0,0 +1,44 @@
+package countries.dictionary;
+
+import countries.model.GameState;
+import countries.model.PrefixCounts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PrefixTrieTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void keepsEveryCountryWhoseNamesFoldTogether() {
+        Path path = directory.resolve("countries.dict");
+        DictionaryCompiler.compile(path, source -> source.equals(CountryDictionary.COUNTRIES_FILE_PATH)
+                ? List.of("Czad|Chad", "Côte|Cote one", "Cote|Cote two")
+                : List.of());
+        CountryDictionary dictionary = CountryDictionary.open(path);
+        PrefixTrie trie = new PrefixTrie(dictionary, Language.POLISH);
+
+        assertEquals(trie.nodeOf(1), trie.nodeOf(2));
+        List<Integer> terminals = new ArrayList<>();
+        for (int id = trie.terminal(trie.find("cote")); id >= 0; id = trie.nextTerminal(id))
+            terminals.add(id);
+        assertEquals(List.of(2, 1), terminals);
+
+        GameState gameState = new GameState();
+        PrefixCounts counts = new PrefixCounts(trie, gameState);
+        gameState.addListener(counts);
+        gameState.load(new int[]{0, 1, 2});
+        gameState.guess(2);
+
+        List<Integer> remaining = new ArrayList<>();
+        counts.forEachRemaining("c", remaining::add);
+        assertEquals(2, counts.countRemaining("c"));
+        assertEquals(List.of(0, 1), remaining.stream().sorted().toList());
+    }
+}
@@ -0,0 +1,34 @@
+package countries.history;
+
+import countries.model.RankIndex;
+import countries.model.ScoreCalculator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HistoryQueriesTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void leavesGamesWithoutGuessesOutOfAveragesAndRanks() throws IOException {
+        GameHistory history = GameHistory.open(directory.resolve("history.bin"), directory.resolve("history.players"));
+        history.append(new GameRecord(10_000, 4, 10, 0, 0, "ala", false));
+        history.append(new GameRecord(20_000, 2, 10, 0, 0, "ala", true));
+        history.append(new GameRecord(5_000, 0, 10, 0, 0, "ala", true));
+        history.append(new GameRecord(3_000, 0, 10, 0, 0, "ola", true));
+
+        Map<String, Double> averages = HistoryQueries.averageScoreByPlayer(history);
+        RankIndex ranks = HistoryQueries.rankIndex(history);
+        history.close();
+
+        double expected = (ScoreCalculator.calculate(10_000, 4) + ScoreCalculator.calculate(20_000, 2)) / 2;
+        assertEquals(Map.of("ala", expected), averages);
+        assertEquals(2, ranks.size());
+    }
+}
@@ -0,0 +1,79 @@
+package countries.history;
+
+import countries.dictionary.CountryDictionary;
+import countries.exeption.DataImportException;
+import countries.model.GameState;
+import countries.model.Score;
+import countries.stats.CountryStatistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimelineStoreTest {
+    private static final int FINGERPRINT = 0xCAFEBABE;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysRecordedGame() throws IOException {
+        TimelineStore store = TimelineStore.open(directory.resolve("timelines.bin"));
+        store.append(recordGame(new int[]{2, 5, 7}));
+        RecordedGame game = store.read(1);
+        store.close();
+
+        assertTrue(game.isRecordedWith(FINGERPRINT));
+        assertFalse(game.isRecordedWith(FINGERPRINT + 1));
+        assertTrue(game.fitsIn(8));
+        assertFalse(game.fitsIn(7));
+        assertEquals(3, game.getEventCount());
+        assertEquals(5, game.getCountry(0));
+        assertEquals(CountryDictionary.NO_COUNTRY, game.getCountry(1));
+
+        CountryStatistics statistics = new CountryStatistics(8);
+        Score score = game.replay(statistics);
+        assertEquals(1, statistics.get(5).getGuessed());
+        assertEquals(1, statistics.get(2).getMissed());
+        assertEquals(1, statistics.get(7).getGuessed());
+        assertEquals(3000, score.getTime());
+    }
+
+    @Test
+    void rejectsDamagedRecord() throws IOException {
+        Path path = directory.resolve("timelines.bin");
+        TimelineStore store = TimelineStore.open(path);
+        store.append(recordGame(new int[]{2, 5, 7}));
+        store.close();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xFF}), Integer.BYTES + 2);
+        }
+
+        TimelineStore reopened = TimelineStore.open(path);
+        assertThrows(DataImportException.class, () -> reopened.read(1));
+        reopened.close();
+    }
+
+    private static GameTimeline recordGame(int[] ids) {
+        GameState gameState = new GameState();
+        gameState.load(ids);
+        GameTimeline timeline = new GameTimeline();
+        long start = 0;
+        timeline.start(gameState, FINGERPRINT, 0, 0, start);
+        timeline.recordGuess(5, start + TimeUnit.SECONDS.toNanos(1));
+        timeline.recordMiss(start + TimeUnit.SECONDS.toNanos(2));
+        timeline.recordGuess(7, start + TimeUnit.SECONDS.toNanos(3));
+        timeline.end(start + TimeUnit.SECONDS.toNanos(3));
+        return timeline;
+    }
+}
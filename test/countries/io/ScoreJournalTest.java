@@ -0,0 +1,157 @@
+package countries.io;
+
+import countries.exeption.DataImportException;
+import countries.model.Score;
+import countries.model.Scoreboard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoreJournalTest {
+    @TempDir
+    Path directory;
+
+    private Path journalPath;
+    private Path snapshotPath;
+    private Path legacyPath;
+
+    @BeforeEach
+    void paths() {
+        journalPath = directory.resolve("score.journal");
+        snapshotPath = directory.resolve("score.snapshot");
+        legacyPath = directory.resolve("score.board");
+    }
+
+    @Test
+    void restoresRecordedScores() throws IOException {
+        record(100, 181, 250);
+
+        assertEquals(List.of("100 p100", "181 p181", "250 p250"), restore());
+    }
+
+    @Test
+    void restoresScoresAfterCompaction() throws IOException {
+        ScoreJournal journal = open();
+        Scoreboard scoreboard = new Scoreboard();
+        journal.restore(scoreboard);
+        journal.record(scoreboard, score(100));
+        journal.compact(scoreboard);
+        journal.record(scoreboard, score(181));
+        journal.close();
+
+        assertEquals(List.of("100 p100", "181 p181"), restore());
+    }
+
+    @Test
+    void ignoresTornRecordAtTheEndOfTheJournal() throws IOException {
+        record(100, 181);
+        Files.write(journalPath, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        assertEquals(List.of("100 p100", "181 p181"), restore());
+        record(250);
+        assertEquals(List.of("100 p100", "181 p181", "250 p250"), restore());
+    }
+
+    @Test
+    void doesNotDuplicateScoresWhenJournalSurvivesCompaction() throws IOException {
+        ScoreJournal journal = open();
+        Scoreboard scoreboard = new Scoreboard();
+        journal.restore(scoreboard);
+        journal.record(scoreboard, score(100));
+        journal.record(scoreboard, score(181));
+        journal.sync();
+        Path beforeCompaction = directory.resolve("journal.copy");
+        Files.copy(journalPath, beforeCompaction);
+        journal.compact(scoreboard);
+        journal.close();
+        Files.copy(beforeCompaction, journalPath, StandardCopyOption.REPLACE_EXISTING);
+
+        assertEquals(List.of("100 p100", "181 p181"), restore());
+    }
+
+    @Test
+    void keepsRestoredScoresWhenLegacyBoardIsUnreadable() throws IOException {
+        record(100, 181, 250);
+        Files.write(legacyPath, new byte[]{1, 2, 3, 4, 5});
+
+        ScoreJournal journal = open();
+        Scoreboard scoreboard = new Scoreboard();
+        journal.restore(scoreboard);
+        assertNotNull(journal.getWarning());
+        journal.compact(scoreboard);
+        journal.close();
+
+        assertFalse(Files.exists(legacyPath));
+        assertTrue(Files.exists(directory.resolve("score.board.rejected")));
+        assertEquals(List.of("100 p100", "181 p181", "250 p250"), restore());
+    }
+
+    @Test
+    void refusesToWriteAfterFailedRestore() throws IOException {
+        record(100);
+        byte[] journalBefore = Files.readAllBytes(journalPath);
+        Files.write(snapshotPath, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        ScoreJournal journal = open();
+        Scoreboard scoreboard = new Scoreboard();
+        assertThrows(DataImportException.class, () -> journal.restore(scoreboard));
+        assertThrows(IOException.class, () -> journal.record(scoreboard, score(50)));
+        assertThrows(IOException.class, () -> journal.compact(scoreboard));
+        journal.close();
+
+        assertArrayEquals(journalBefore, Files.readAllBytes(journalPath));
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}, Files.readAllBytes(snapshotPath));
+    }
+
+    @Test
+    void reportsNoWarningWithoutLegacyBoard() throws IOException {
+        ScoreJournal journal = open();
+        journal.restore(new Scoreboard());
+        assertNull(journal.getWarning());
+        journal.close();
+    }
+
+    private ScoreJournal open() {
+        return ScoreJournal.open(journalPath, snapshotPath, legacyPath);
+    }
+
+    private void record(int... scores) throws IOException {
+        ScoreJournal journal = open();
+        Scoreboard scoreboard = new Scoreboard();
+        journal.restore(scoreboard);
+        for (int score : scores)
+            journal.record(scoreboard, score(score));
+        journal.close();
+    }
+
+    private List<String> restore() throws IOException {
+        ScoreJournal journal = open();
+        Scoreboard scoreboard = new Scoreboard();
+        journal.restore(scoreboard);
+        journal.close();
+        List<String> scores = new ArrayList<>();
+        for (Score score : scoreboard.getScoreboardList())
+            scores.add(score.toString());
+        return scores;
+    }
+
+    private static Score score(int score) {
+        return new Score(1000, "p" + score, score);
+    }
+}
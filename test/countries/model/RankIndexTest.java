@@ -0,0 +1,80 @@
+package countries.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RankIndexTest {
+    @Test
+    void ranksLowerScoresFirst() {
+        RankIndex ranks = new RankIndex();
+        ranks.add(300, 3);
+        ranks.add(100, 1);
+        ranks.add(200, 2);
+
+        assertEquals(3, ranks.size());
+        assertEquals(1, ranks.rankOf(100));
+        assertEquals(2, ranks.rankOf(150));
+        assertEquals(4, ranks.rankOf(400));
+        assertEquals(100.0 * 2 / 3, ranks.percentile(100), 1e-9);
+        assertEquals(List.of("1. 100.0 #1", "2. 200.0 #2", "3. 300.0 #3"), page(ranks, 1, 20));
+    }
+
+    @Test
+    void sharesRankBetweenEqualScores() {
+        RankIndex ranks = new RankIndex();
+        ranks.add(50, 1);
+        ranks.add(70, 2);
+        ranks.add(70, 3);
+        ranks.add(90, 4);
+
+        assertEquals(2, ranks.rankOf(70));
+        assertEquals(List.of("2. 70.0 #2", "2. 70.0 #3", "4. 90.0 #4"), page(ranks, 2, 3));
+        assertEquals(List.of("2. 70.0 #3", "4. 90.0 #4"), page(ranks, 3, 2));
+    }
+
+    @Test
+    void keepsLargeScoresApart() {
+        RankIndex ranks = new RankIndex();
+        ranks.add(5_000_000, 1);
+        ranks.add(2_000_000, 2);
+        ranks.add(3_500_000.5, 3);
+
+        assertEquals(2, ranks.rankOf(3_500_000.5));
+        assertEquals(List.of("1. 2000000.0 #2", "2. 3500000.5 #3", "3. 5000000.0 #1"), page(ranks, 1, 20));
+    }
+
+    @Test
+    void pagesMatchSortedScores() {
+        Random random = new Random(7);
+        RankIndex ranks = new RankIndex();
+        double[] scores = new double[5000];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = random.nextInt(2000) + 1;
+            ranks.add(scores[i], i);
+        }
+        Arrays.sort(scores);
+
+        int pageSize = 20;
+        assertEquals(scores.length / pageSize, ranks.pages(pageSize));
+        List<Double> paged = new ArrayList<>();
+        for (long page = 1; page <= ranks.pages(pageSize); page++)
+            ranks.forEachOnPage(page, pageSize, (rank, score, player) -> {
+                assertEquals(ranks.rankOf(score), rank);
+                paged.add(score);
+            });
+        for (int i = 0; i < scores.length; i++)
+            assertEquals(scores[i], paged.get(i));
+    }
+
+    private static List<String> page(RankIndex ranks, long fromRank, int count) {
+        List<String> lines = new ArrayList<>();
+        ranks.forEachInWindow(fromRank, count, (rank, score, player) -> lines.add(rank + ". " + score + " #" + player));
+        return lines;
+    }
+}
@@ -0,0 +1,90 @@
+package countries.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoreboardTest {
+    private static final int THREADS = 8;
+    private static final int SCORES_PER_THREAD = 5000;
+
+    @Test
+    void keepsTheBestScoresInOrder() {
+        Scoreboard scoreboard = new Scoreboard(3);
+        for (int score : new int[]{50, 10, 40, 30, 20})
+            scoreboard.addScore(new Score(1000, "p" + score, score));
+
+        assertEquals(List.of(10.0, 20.0, 30.0), scores(scoreboard));
+        assertFalse(scoreboard.qualifies(new Score(1000, "slow", 30)));
+        assertTrue(scoreboard.qualifies(new Score(1000, "fast", 29)));
+    }
+
+    @Test
+    void rejectsScoresOutsideTheBoard() {
+        Scoreboard scoreboard = new Scoreboard(2);
+        scoreboard.addScore(new Score(1000, "a", 10));
+        scoreboard.addScore(new Score(1000, "b", 20));
+
+        assertFalse(scoreboard.addScore(new Score(1000, "c", 30)));
+        assertEquals(List.of(10.0, 20.0), scores(scoreboard));
+    }
+
+    @Test
+    void rejectsGamesWithoutGuesses() {
+        Scoreboard scoreboard = new Scoreboard();
+
+        assertFalse(scoreboard.addScore(new Score(5000, "gave up", ScoreCalculator.calculate(5000, 0))));
+        assertTrue(scoreboard.getScoreboardList().isEmpty());
+    }
+
+    @Test
+    void concurrentAddsKeepExactlyTheBestScores() throws Exception {
+        int capacity = Scoreboard.DEFAULT_CAPACITY;
+        for (int round = 0; round < 20; round++) {
+            Scoreboard scoreboard = new Scoreboard(capacity);
+            CyclicBarrier start = new CyclicBarrier(THREADS);
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            try {
+                List<Future<?>> results = new ArrayList<>();
+                for (int thread = 0; thread < THREADS; thread++) {
+                    int first = thread;
+                    results.add(executor.submit(() -> {
+                        start.await(30, TimeUnit.SECONDS);
+                        for (int i = 0; i < SCORES_PER_THREAD; i++) {
+                            int score = (SCORES_PER_THREAD - i) * THREADS - first;
+                            scoreboard.addScore(new Score(1000, "t" + first, score));
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> result : results)
+                    result.get(30, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            List<Double> expected = new ArrayList<>();
+            for (int score = 1; score <= capacity; score++)
+                expected.add((double) score);
+            assertEquals(expected, scores(scoreboard));
+            assertFalse(scoreboard.qualifies(new Score(1000, "late", capacity)));
+        }
+    }
+
+    private static List<Double> scores(Scoreboard scoreboard) {
+        List<Double> scores = new ArrayList<>();
+        for (Score score : scoreboard.getScoreboardList())
+            scores.add(score.getScore());
+        return scores;
+    }
+}
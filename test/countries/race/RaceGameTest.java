@@ -0,0 +1,99 @@
+package countries.race;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RaceGameTest {
+    private static final int THREADS = 4;
+    private static final int COUNTRIES = 2000;
+    private static final int ROUNDS = 20;
+
+    @Test
+    void claimsOnlyCountriesInTheRace() {
+        RaceGame race = new RaceGame(5, new int[]{1, 3, 3});
+        RacePlayer player = race.join("player");
+
+        assertEquals(2, race.getTotal());
+        assertFalse(race.claim(player, 0));
+        assertFalse(race.claim(player, -1));
+        assertFalse(race.claim(player, 5));
+        assertEquals(RaceGame.NOT_IN_RACE, race.ownerOf(0));
+        assertEquals(RaceGame.UNCLAIMED, race.ownerOf(1));
+    }
+
+    @Test
+    void secondClaimOfTheSameCountryFails() {
+        RaceGame race = new RaceGame(3, new int[]{0, 1, 2});
+        RacePlayer first = race.join("first");
+        RacePlayer second = race.join("second");
+
+        assertTrue(race.claim(first, 1));
+        assertFalse(race.claim(second, 1));
+        assertFalse(race.claim(first, 1));
+        assertEquals(first.getId(), race.ownerOf(1));
+        assertEquals(1, first.getClaims());
+        assertEquals(0, second.getClaims());
+        assertEquals(2, race.getRemaining());
+    }
+
+    @Test
+    void concurrentClaimsAreCountedExactlyOnce() throws Exception {
+        int[] ids = new int[COUNTRIES];
+        for (int id = 0; id < COUNTRIES; id++)
+            ids[id] = id;
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                RaceGame race = new RaceGame(COUNTRIES, ids);
+                CyclicBarrier start = new CyclicBarrier(THREADS);
+                List<Future<Integer>> results = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    RacePlayer player = race.join("bot-" + i);
+                    int offset = i;
+                    results.add(executor.submit(() -> claimAll(race, player, offset, start)));
+                }
+                int won = 0;
+                int claimants = 0;
+                for (Future<Integer> result : results) {
+                    int claims = result.get(30, TimeUnit.SECONDS);
+                    won += claims;
+                    if (claims > 0)
+                        claimants++;
+                }
+
+                assertTrue(race.isFinished());
+                assertEquals(COUNTRIES, won);
+                assertTrue(claimants > 1, "claims were not spread across threads");
+                int[] owned = new int[THREADS];
+                for (int id = 0; id < COUNTRIES; id++)
+                    owned[race.ownerOf(id)]++;
+                for (int player = 0; player < THREADS; player++)
+                    assertEquals(race.player(player).getClaims(), owned[player]);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int claimAll(RaceGame race, RacePlayer player, int offset, CyclicBarrier start) throws Exception {
+        start.await(30, TimeUnit.SECONDS);
+        int won = 0;
+        for (int i = 0; i < COUNTRIES; i++) {
+            if (race.claim(player, (i * 7 + offset * COUNTRIES / THREADS) % COUNTRIES))
+                won++;
+            Thread.yield();
+        }
+        return won;
+    }
+}